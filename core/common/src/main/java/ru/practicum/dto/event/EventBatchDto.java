@@ -5,12 +5,15 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.util.Map;
+import java.util.List;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class EventBatchDto {
-    private Map<Long, EventShortDto> events;
+    /**
+     * События в порядке запрошенных id; отсутствующие пропущены.
+     */
+    private List<EventShortDto> events;
 }
@@ -0,0 +1,25 @@
+package ru.practicum.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Поля события, нужные для проверки заявок на участие, без описания и обогащения.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventMetaDto {
+    private Long id;
+    private Long initiatorId;
+    private String state;
+
+    @Builder.Default
+    private Integer participantLimit = 0;
+
+    @Builder.Default
+    private Boolean requestModeration = true;
+}
@@ -0,0 +1,26 @@
+package ru.practicum.dto.page;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Страница keyset-пагинации; {@code nextCursor} равен null на последней странице.
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    /**
+     * Строит страницу из выборки размером {@code size + 1}: лишний элемент лишь
+     * показывает, что следующая страница существует.
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, String> cursorOf) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, size);
+        return new CursorPage<>(items, cursorOf.apply(items.getLast()));
+    }
+
+    public <R> CursorPage<R> map(Function<List<T>, List<R>> mapper) {
+        return new CursorPage<>(mapper.apply(items), nextCursor);
+    }
+}
@@ -0,0 +1,60 @@
+package ru.practicum.dto.page;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Кодирование курсоров keyset-пагинации. Курсор — непрозрачная для клиента строка
+ * с ключом сортировки последнего элемента страницы, например (event_date, id).
+ * Пустой курсор означает первую страницу.
+ */
+public final class Cursors {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    private Cursors() {
+    }
+
+    public static String encode(Object... keys) {
+        String raw = VERSION + SEPARATOR + Arrays.stream(keys)
+                .map(String::valueOf)
+                .collect(Collectors.joining(SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Разбирает курсор в ключ сортировки; для первой страницы возвращает null.
+     *
+     * @throws InvalidCursorException если курсор повреждён или выдан другим списком
+     */
+    public static <T> T decode(String cursor, int parts, Function<String[], T> parser) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] keys = split(cursor, parts);
+        try {
+            return parser.apply(keys);
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(cursor, e);
+        }
+    }
+
+    private static String[] split(String cursor, int parts) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+        String[] split = raw.split("\\" + SEPARATOR, -1);
+        if (split.length != parts + 1 || !VERSION.equals(split[0])) {
+            throw new InvalidCursorException(cursor);
+        }
+        return Arrays.copyOfRange(split, 1, split.length);
+    }
+}
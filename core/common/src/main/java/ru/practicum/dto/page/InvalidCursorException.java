@@ -0,0 +1,11 @@
+package ru.practicum.dto.page;
+
+public class InvalidCursorException extends IllegalArgumentException {
+    public InvalidCursorException(String cursor) {
+        super("Некорректный курсор страницы: " + cursor);
+    }
+
+    public InvalidCursorException(String cursor, Throwable cause) {
+        super("Некорректный курсор страницы: " + cursor, cause);
+    }
+}
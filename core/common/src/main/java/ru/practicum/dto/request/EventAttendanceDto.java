@@ -0,0 +1,20 @@
+package ru.practicum.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Пользователи с подтверждёнными заявками по событиям: отсортированные массивы id,
+ * по которым принадлежность проверяется двоичным поиском.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventAttendanceDto {
+    private Map<Long, long[]> attendees;
+}
@@ -0,0 +1,30 @@
+package ru.practicum.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Порция ленты изменений пользователей в порядке номеров изменений и номер последнего
+ * известного изменения. Номер выдаётся при вставке, а не при коммите, поэтому меньший номер
+ * может появиться в ленте позже большего: читателю нужно перечитывать хвост ленты.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangesDto {
+    private List<Change> changes;
+    private Long lastSeq;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Change {
+        private Long seq;
+        private Long userId;
+    }
+}
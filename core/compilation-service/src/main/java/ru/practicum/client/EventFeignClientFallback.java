@@ -4,7 +4,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import ru.practicum.dto.event.EventBatchDto;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 
 @Component
@@ -15,7 +15,7 @@ public class EventFeignClientFallback implements EventFeignClient {
     public EventBatchDto getEventsByIds(List<Long> eventIds) {
         log.warn("Event Service unavailable, returning empty events");
         return EventBatchDto.builder()
-                .events(new HashMap<>())
+                .events(new ArrayList<>())
                 .build();
     }
 }
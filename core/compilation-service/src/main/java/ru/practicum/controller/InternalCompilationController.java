@@ -0,0 +1,22 @@
+package ru.practicum.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.service.CompilationService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/compilations")
+@RequiredArgsConstructor
+public class InternalCompilationController {
+
+    private final CompilationService compilationService;
+
+    @PostMapping("/cache/events/invalidate")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public void invalidateByEvents(@RequestBody List<Long> eventIds) {
+        compilationService.evictByEvents(eventIds);
+    }
+}
@@ -2,8 +2,11 @@ package ru.practicum.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.dto.CompilationDto;
+import ru.practicum.dto.page.CursorPage;
+import ru.practicum.dto.page.Cursors;
 import ru.practicum.service.CompilationService;
 
 import java.util.List;
@@ -17,11 +20,21 @@ public class PublicCompilationController {
     private final CompilationService compilationService;
 
     @GetMapping
-    public List<CompilationDto> getCompilations(@RequestParam(required = false) Boolean pinned,
-                                                @RequestParam(defaultValue = "0") Integer from,
-                                                @RequestParam(defaultValue = "10") Integer size) {
-        log.info("Пользователь: получение подборки с pinned={}, from={}, size={}", pinned, from, size);
-        return compilationService.getCompilations(pinned, from, size);
+    public ResponseEntity<List<CompilationDto>> getCompilations(@RequestParam(required = false) Boolean pinned,
+                                                                @RequestParam(defaultValue = "0") Integer from,
+                                                                @RequestParam(defaultValue = "10") Integer size,
+                                                                @RequestParam(required = false) String cursor) {
+        log.info("Пользователь: получение подборки с pinned={}, from={}, size={}, cursor={}", pinned, from, size, cursor);
+        if (cursor == null) {
+            return ResponseEntity.ok(compilationService.getCompilations(pinned, from, size));
+        }
+
+        CursorPage<CompilationDto> page = compilationService.getCompilationsPage(pinned, cursor, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(Cursors.NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
     }
 
     @GetMapping("/{compId}")
@@ -20,4 +20,7 @@ public class CompilationEvent {
     @Id
     @Column(name = "event_id")
     private Long eventId;
+
+    @Column(name = "position", nullable = false)
+    private Integer position;
 }
@@ -1,17 +1,45 @@
 package ru.practicum.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import ru.practicum.model.CompilationEvent;
 import ru.practicum.model.CompilationEventId;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CompilationEventRepository extends JpaRepository<CompilationEvent, CompilationEventId> {
 
-    @Query("SELECT ce.eventId FROM CompilationEvent ce WHERE ce.compilationId = :compilationId")
-    List<Long> findEventIdsByCompilationId(@Param("compilationId") Long compilationId);
+    @Query("SELECT DISTINCT ce.compilationId FROM CompilationEvent ce WHERE ce.eventId IN :eventIds")
+    List<Long> findCompilationIdsByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
 
-    void deleteByCompilationId(Long compilationId);
+    List<CompilationEvent> findByCompilationIdInOrderByPosition(List<Long> compilationIds);
+
+    /**
+     * Вставляет новые события подборки и переставляет существующие одним запросом;
+     * строки, позиция которых не изменилась, не перезаписываются. Позиция — индекс в массиве.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO compilation_events (compilation_id, event_id, position)
+            SELECT :compilationId, e.event_id, e.ord - 1
+            FROM unnest(CAST(:eventIds AS bigint[])) WITH ORDINALITY AS e(event_id, ord)
+            ON CONFLICT (compilation_id, event_id)
+            DO UPDATE SET position = EXCLUDED.position
+            WHERE compilation_events.position <> EXCLUDED.position
+            """, nativeQuery = true)
+    int upsertPositions(@Param("compilationId") Long compilationId, @Param("eventIds") Long[] eventIds);
+
+    /**
+     * Удаляет одним запросом события подборки, которых нет в переданном списке.
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM compilation_events
+            WHERE compilation_id = :compilationId
+              AND event_id <> ALL(CAST(:eventIds AS bigint[]))
+            """, nativeQuery = true)
+    int deleteAllExcept(@Param("compilationId") Long compilationId, @Param("eventIds") Long[] eventIds);
 }
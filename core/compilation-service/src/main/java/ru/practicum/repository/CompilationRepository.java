@@ -8,11 +8,16 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ru.practicum.model.Compilation;
 
+import java.util.List;
+
 @Repository
 public interface CompilationRepository extends JpaRepository<Compilation, Long>, JpaSpecificationExecutor<Compilation> {
 
     @Query("SELECT c FROM Compilation c WHERE (:pinned IS NULL OR c.pinned = :pinned)")
     Page<Compilation> findByPinned(Boolean pinned, Pageable pageable);
 
+    @Query("SELECT c FROM Compilation c WHERE (:pinned IS NULL OR c.pinned = :pinned) AND c.id > :afterId ORDER BY c.id")
+    List<Compilation> findByPinnedAfter(Boolean pinned, Long afterId, Pageable pageable);
+
     boolean existsByTitle(String title);
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+package ru.practicum.service;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.dto.CompilationDto;
+import ru.practicum.repository.CompilationEventRepository;
+import ru.practicum.repository.CompilationRepository;
+import ru.practicum.service.CompilationRenderer.RenderedCompilation;
+
+import java.util.*;
+
+/**
+ * Собранные {@link CompilationDto} для публичного чтения. Изменчивые части — рейтинги и число
+ * заявок — обновляются фоновой пересборкой, а сами подборки вытесняются при их изменении
+ * и при изменении входящих в них событий.
+ */
+@Slf4j
+@Component
+public class CompilationCache {
+
+    private final CompilationRepository compilationRepository;
+    private final CompilationEventRepository compilationEventRepository;
+    private final CompilationRenderer renderer;
+    private final LoadingCache<Long, RenderedCompilation> cache;
+
+    public CompilationCache(CompilationRepository compilationRepository,
+                            CompilationEventRepository compilationEventRepository,
+                            CompilationRenderer renderer,
+                            CompilationCacheProperties properties) {
+        this.compilationRepository = compilationRepository;
+        this.compilationEventRepository = compilationEventRepository;
+        this.renderer = renderer;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .refreshAfterWrite(properties.getRefreshAfter())
+                .expireAfter(new RenderedExpiry(properties))
+                .build(new RenderLoader());
+    }
+
+    /**
+     * Подборка или null, если её нет.
+     */
+    public CompilationDto get(Long compilationId) {
+        RenderedCompilation rendered = cache.get(compilationId);
+        return rendered != null ? rendered.dto() : null;
+    }
+
+    /**
+     * Подборки в порядке переданных id; отсутствующие пропускаются.
+     */
+    public List<CompilationDto> getAll(List<Long> compilationIds) {
+        Map<Long, RenderedCompilation> rendered = cache.getAll(compilationIds);
+        return compilationIds.stream()
+                .map(rendered::get)
+                .filter(Objects::nonNull)
+                .map(RenderedCompilation::dto)
+                .toList();
+    }
+
+    public void evictAfterCommit(Long compilationId) {
+        afterCommit(() -> cache.invalidate(compilationId));
+    }
+
+    /**
+     * Вытесняет подборки, в которые входят изменённые события.
+     */
+    public void evictByEvents(Collection<Long> eventIds) {
+        List<Long> compilationIds = compilationEventRepository.findCompilationIdsByEventIdIn(eventIds);
+        cache.invalidateAll(compilationIds);
+        log.debug("Evicted {} compilations for changed events {}", compilationIds.size(), eventIds);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private class RenderLoader implements CacheLoader<Long, RenderedCompilation> {
+
+        @Override
+        public RenderedCompilation load(Long compilationId) {
+            return loadAll(Set.of(compilationId)).get(compilationId);
+        }
+
+        @Override
+        public Map<Long, RenderedCompilation> loadAll(Set<? extends Long> compilationIds) {
+            Map<Long, RenderedCompilation> result = new HashMap<>();
+            for (RenderedCompilation rendered : renderer.render(compilationRepository.findAllById(compilationIds))) {
+                result.put(rendered.dto().getId(), rendered);
+            }
+            return result;
+        }
+    }
+
+    private static class RenderedExpiry implements Expiry<Long, RenderedCompilation> {
+        private final long ttlNanos;
+        private final long incompleteTtlNanos;
+
+        RenderedExpiry(CompilationCacheProperties properties) {
+            this.ttlNanos = properties.getTtl().toNanos();
+            this.incompleteTtlNanos = properties.getIncompleteTtl().toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Long key, RenderedCompilation value, long currentTime) {
+            return value.complete() ? ttlNanos : incompleteTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, RenderedCompilation value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, RenderedCompilation value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
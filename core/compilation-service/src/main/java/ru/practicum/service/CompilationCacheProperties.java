@@ -0,0 +1,32 @@
+package ru.practicum.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "compilation-service.cache")
+public class CompilationCacheProperties {
+    private long maxSize = 1_000;
+
+    /**
+     * Через сколько после сборки подборка пересобирается в фоне при очередном чтении,
+     * чтобы обновить рейтинги и число подтверждённых заявок.
+     */
+    private Duration refreshAfter = Duration.ofSeconds(30);
+
+    /**
+     * Сколько живёт подборка, которую никто не читает.
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /**
+     * Сколько живёт подборка, собранная без части событий.
+     */
+    private Duration incompleteTtl = Duration.ofSeconds(5);
+}
@@ -0,0 +1,76 @@
+package ru.practicum.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import ru.practicum.client.EventFeignClient;
+import ru.practicum.dto.CompilationDto;
+import ru.practicum.dto.event.EventBatchDto;
+import ru.practicum.dto.event.EventShortDto;
+import ru.practicum.mapper.CompilationMapper;
+import ru.practicum.model.Compilation;
+import ru.practicum.model.CompilationEvent;
+import ru.practicum.repository.CompilationEventRepository;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Собирает {@link CompilationDto} с событиями одним запросом связей и одним запросом
+ * событий в event-service, независимо от числа подборок.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompilationRenderer {
+
+    private final CompilationEventRepository compilationEventRepository;
+    private final CompilationMapper compilationMapper;
+    private final EventFeignClient eventFeignClient;
+
+    public List<RenderedCompilation> render(List<Compilation> compilations) {
+        if (compilations.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<Long>> eventIdsByCompilation = new HashMap<>();
+        Set<Long> allEventIds = new LinkedHashSet<>();
+        List<Long> compilationIds = compilations.stream().map(Compilation::getId).toList();
+        for (CompilationEvent link : compilationEventRepository.findByCompilationIdInOrderByPosition(compilationIds)) {
+            eventIdsByCompilation.computeIfAbsent(link.getCompilationId(), id -> new ArrayList<>()).add(link.getEventId());
+            allEventIds.add(link.getEventId());
+        }
+
+        // Получаем события всех подборок одним запросом через FeignClient
+        Map<Long, EventShortDto> events = Collections.emptyMap();
+        if (!allEventIds.isEmpty()) {
+            try {
+                EventBatchDto batchDto = eventFeignClient.getEventsByIds(new ArrayList<>(allEventIds));
+                events = batchDto.getEvents().stream()
+                        .collect(Collectors.toMap(EventShortDto::getId, Function.identity()));
+            } catch (Exception e) {
+                log.error("Ошибка при получении событий из event-service", e);
+            }
+        }
+
+        List<RenderedCompilation> rendered = new ArrayList<>(compilations.size());
+        for (Compilation compilation : compilations) {
+            List<Long> eventIds = eventIdsByCompilation.getOrDefault(compilation.getId(), List.of());
+            CompilationDto dto = compilationMapper.toDto(compilation);
+            dto.setEvents(eventIds.stream()
+                    .map(events::get)
+                    .filter(Objects::nonNull)
+                    .toList());
+            rendered.add(new RenderedCompilation(dto, dto.getEvents().size() == eventIds.size()));
+        }
+        return rendered;
+    }
+
+    /**
+     * @param complete все события подборки получены; иначе event-service был недоступен
+     *                 или часть событий удалена, и результат кэшируется ненадолго
+     */
+    public record RenderedCompilation(CompilationDto dto, boolean complete) {
+    }
+}
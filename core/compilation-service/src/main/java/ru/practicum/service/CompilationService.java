@@ -3,6 +3,7 @@ package ru.practicum.service;
 import ru.practicum.dto.CompilationDto;
 import ru.practicum.dto.NewCompilationDto;
 import ru.practicum.dto.UpdateCompilationRequest;
+import ru.practicum.dto.page.CursorPage;
 
 import java.util.List;
 
@@ -15,5 +16,9 @@ public interface CompilationService {
 
     List<CompilationDto> getCompilations(Boolean pinned, Integer from, Integer size);
 
+    CursorPage<CompilationDto> getCompilationsPage(Boolean pinned, String cursor, Integer size);
+
     CompilationDto getCompilationById(Long compId);
+
+    void evictByEvents(List<Long> eventIds);
 }
\ No newline at end of file
@@ -7,19 +7,20 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import ru.practicum.client.EventFeignClient;
 import ru.practicum.common.EntityValidator;
 import ru.practicum.dto.CompilationDto;
 import ru.practicum.dto.NewCompilationDto;
 import ru.practicum.dto.UpdateCompilationRequest;
-import ru.practicum.dto.event.EventBatchDto;
+import ru.practicum.dto.page.CursorPage;
+import ru.practicum.dto.page.Cursors;
 import ru.practicum.exception.ConflictException;
+import ru.practicum.exception.NotFoundException;
 import ru.practicum.mapper.CompilationMapper;
 import ru.practicum.model.Compilation;
 import ru.practicum.repository.CompilationEventRepository;
 import ru.practicum.repository.CompilationRepository;
 
-import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 @Service
@@ -31,7 +32,8 @@ public class CompilationServiceImpl implements CompilationService {
     private final CompilationEventRepository compilationEventRepository;
     private final CompilationMapper compilationMapper;
     private final EntityValidator entityValidator;
-    private final EventFeignClient eventFeignClient;
+    private final CompilationRenderer compilationRenderer;
+    private final CompilationCache compilationCache;
 
     @Override
     @Transactional
@@ -46,9 +48,10 @@ public class CompilationServiceImpl implements CompilationService {
         Compilation savedCompilation = compilationRepository.save(compilation);
 
         if (compilationDto.getEvents() != null && !compilationDto.getEvents().isEmpty()) {
-            saveCompilationEvents(savedCompilation.getId(), compilationDto.getEvents());
+            replaceCompilationEvents(savedCompilation.getId(), compilationDto.getEvents());
         }
 
+        compilationCache.evictAfterCommit(savedCompilation.getId());
         log.info("Подборка создана с id: {}", savedCompilation.getId());
         return getCompilationDtoWithEvents(savedCompilation);
     }
@@ -74,13 +77,11 @@ public class CompilationServiceImpl implements CompilationService {
         }
 
         if (request.getEvents() != null) {
-            compilationEventRepository.deleteByCompilationId(compId);
-            if (!request.getEvents().isEmpty()) {
-                saveCompilationEvents(compId, request.getEvents());
-            }
+            replaceCompilationEvents(compId, request.getEvents());
         }
 
         Compilation updatedCompilation = compilationRepository.save(compilation);
+        compilationCache.evictAfterCommit(compId);
         log.info("Подборка обновлена с id: {}", compId);
 
         return getCompilationDtoWithEvents(updatedCompilation);
@@ -92,6 +93,7 @@ public class CompilationServiceImpl implements CompilationService {
         log.info("Удаление подборки с id: {}", compId);
         entityValidator.ensureExists(compilationRepository, compId, "Подборка");
         compilationRepository.deleteById(compId);
+        compilationCache.evictAfterCommit(compId);
         log.info("Подборка удалена с id: {}", compId);
     }
 
@@ -103,9 +105,20 @@ public class CompilationServiceImpl implements CompilationService {
         Pageable pageable = PageRequest.of(from / size, size);
         Page<Compilation> compilationsPage = compilationRepository.findByPinned(pinned, pageable);
 
-        return compilationsPage.getContent().stream()
-                .map(this::getCompilationDtoWithEvents)
-                .toList();
+        return compilationCache.getAll(compilationsPage.getContent().stream().map(Compilation::getId).toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<CompilationDto> getCompilationsPage(Boolean pinned, String cursor, Integer size) {
+        log.info("Получение подборок с pinned={}, cursor={}, size={}", pinned, cursor, size);
+
+        Long afterId = Cursors.decode(cursor, 1, keys -> Long.parseLong(keys[0]));
+        List<Compilation> compilations = compilationRepository.findByPinnedAfter(pinned,
+                afterId != null ? afterId : 0L, PageRequest.of(0, size + 1));
+
+        return CursorPage.of(compilations, size, c -> Cursors.encode(c.getId()))
+                .map(page -> compilationCache.getAll(page.stream().map(Compilation::getId).toList()));
     }
 
     @Override
@@ -113,38 +126,31 @@ public class CompilationServiceImpl implements CompilationService {
     public CompilationDto getCompilationById(Long compId) {
         log.info("Получение подборки по id: {}", compId);
 
-        Compilation compilation = entityValidator.ensureAndGet(
-                compilationRepository, compId, "Подборка"
-        );
+        CompilationDto compilation = compilationCache.get(compId);
+        if (compilation == null) {
+            throw new NotFoundException("Подборка не найден: id=" + compId);
+        }
+        return compilation;
+    }
 
-        return getCompilationDtoWithEvents(compilation);
+    @Override
+    public void evictByEvents(List<Long> eventIds) {
+        log.info("Сброс подборок с изменёнными событиями: {}", eventIds);
+        compilationCache.evictByEvents(eventIds);
     }
 
-    private void saveCompilationEvents(Long compilationId, List<Long> eventIds) {
-        var compilationEvents = eventIds.stream()
-                .map(eventId -> new ru.practicum.model.CompilationEvent(compilationId, eventId))
-                .toList();
-        compilationEventRepository.saveAll(compilationEvents);
+    /**
+     * Приводит состав подборки к переданному списку: порядок списка становится порядком событий,
+     * повторы отбрасываются. Не больше одного запроса на удаление и одного на вставку/перестановку.
+     */
+    private void replaceCompilationEvents(Long compilationId, List<Long> eventIds) {
+        Long[] ordered = new LinkedHashSet<>(eventIds).toArray(Long[]::new);
+        int removed = compilationEventRepository.deleteAllExcept(compilationId, ordered);
+        int upserted = ordered.length > 0 ? compilationEventRepository.upsertPositions(compilationId, ordered) : 0;
+        log.debug("Состав подборки {}: удалено {}, добавлено или перемещено {}", compilationId, removed, upserted);
     }
 
     private CompilationDto getCompilationDtoWithEvents(Compilation compilation) {
-        List<Long> eventIds = compilationEventRepository.findEventIdsByCompilationId(compilation.getId());
-
-        CompilationDto dto = compilationMapper.toDto(compilation);
-
-        // Получаем события через FeignClient
-        if (!eventIds.isEmpty()) {
-            try {
-                EventBatchDto batchDto = eventFeignClient.getEventsByIds(eventIds);
-                dto.setEvents(batchDto.getEvents().values().stream().toList());
-            } catch (Exception e) {
-                log.error("Ошибка при получении событий из event-service", e);
-                dto.setEvents(Collections.emptyList());
-            }
-        } else {
-            dto.setEvents(Collections.emptyList());
-        }
-
-        return dto;
+        return compilationRenderer.render(List.of(compilation)).getFirst().dto();
     }
-}
\ No newline at end of file
+}
@@ -9,10 +9,16 @@ CREATE TABLE IF NOT EXISTS compilations (
     CONSTRAINT uq_compilation_name UNIQUE (title)
 );
 
+CREATE INDEX IF NOT EXISTS idx_compilations_pinned_id ON compilations (pinned, id);
+
 -- Таблица compilation_events
 CREATE TABLE IF NOT EXISTS compilation_events (
     compilation_id BIGINT NOT NULL,
     event_id BIGINT NOT NULL,
+    position INTEGER NOT NULL,
     PRIMARY KEY (compilation_id, event_id),
     CONSTRAINT fk_ce_to_compilation FOREIGN KEY(compilation_id) REFERENCES compilations(id) ON DELETE CASCADE
 );
+
+-- События подборки выдаются в порядке, заданном администратором
+CREATE INDEX IF NOT EXISTS idx_compilation_events_position ON compilation_events (compilation_id, position);
@@ -0,0 +1,70 @@
+-- Сравнение поиска по тексту событий без индекса и с триграммными индексами на 1M событий.
+-- Запуск на отдельной базе: psql -d ewm_bench -f text_search.sql
+-- Скрипт создаёт собственную схему bench и не трогает таблицы сервиса.
+
+\timing on
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+DROP SCHEMA IF EXISTS bench CASCADE;
+CREATE SCHEMA bench;
+SET search_path = bench, public;
+
+CREATE TABLE events (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    annotation VARCHAR(2000) NOT NULL,
+    description VARCHAR(7000),
+    event_date TIMESTAMP NOT NULL,
+    state VARCHAR(16) NOT NULL
+);
+
+-- 1M событий: аннотация ~200 символов, описание ~2000 символов из случайных слов
+INSERT INTO events (annotation, description, event_date, state)
+SELECT
+    (SELECT string_agg(md5(random()::text || g || i), ' ') FROM generate_series(1, 6) i),
+    (SELECT string_agg(md5(random()::text || g || i), ' ') FROM generate_series(1, 60) i),
+    now() + (random() * interval '365 days'),
+    CASE WHEN random() < 0.8 THEN 'PUBLISHED' ELSE 'PENDING' END
+FROM generate_series(1, 1000000) g;
+
+UPDATE events SET annotation = annotation || ' jazz festival' WHERE id % 10000 = 0;
+ANALYZE events;
+
+-- Запрос в том виде, в каком его строит EventRepositoryImpl.searchEventsByPublic
+PREPARE search(text) AS
+SELECT id FROM events
+WHERE state = 'PUBLISHED'
+  AND (lower(annotation) LIKE '%' || $1 || '%' OR lower(description) LIKE '%' || $1 || '%')
+  AND event_date > now()
+ORDER BY event_date
+LIMIT 10;
+
+-- 1. Без индекса: последовательное чтение всей таблицы
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE search('jazz festival');
+
+CREATE INDEX idx_events_annotation_trgm ON events USING GIN (lower(annotation) gin_trgm_ops);
+CREATE INDEX idx_events_description_trgm ON events USING GIN (lower(description) gin_trgm_ops);
+ANALYZE events;
+
+-- 2. С индексами: BitmapOr по двум GIN-индексам
+DEALLOCATE search;
+PREPARE search(text) AS
+SELECT id FROM events
+WHERE state = 'PUBLISHED'
+  AND (lower(annotation) LIKE '%' || $1 || '%' OR lower(description) LIKE '%' || $1 || '%')
+  AND event_date > now()
+ORDER BY event_date
+LIMIT 10;
+
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE search('jazz festival');
+
+-- 3. Сортировка по релевантности (sort=RELEVANCE)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM events
+WHERE state = 'PUBLISHED'
+  AND (lower(annotation) LIKE '%jazz festival%' OR lower(description) LIKE '%jazz festival%')
+ORDER BY greatest(word_similarity('jazz festival', lower(annotation)),
+                  coalesce(word_similarity('jazz festival', lower(description)), 0)) DESC
+LIMIT 10;
+
+DROP SCHEMA bench CASCADE;
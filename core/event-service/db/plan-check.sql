@@ -0,0 +1,143 @@
+-- Проверка планов запросов event-service: каждый запрос должен идти по индексу,
+-- а не последовательным чтением events/comments. При нарушении скрипт падает с ошибкой.
+--
+-- Запуск на отдельной пустой базе (schema.sql пересоздаёт таблицы):
+--   createdb ewm_plan_check
+--   psql -v ON_ERROR_STOP=1 -d ewm_plan_check -f src/main/resources/schema.sql -f db/plan-check.sql
+--
+-- Запросы повторяют SQL, который Hibernate строит для EventRepositoryImpl,
+-- EventRepository и CommentRepository; при изменении предикатов их нужно обновить здесь.
+
+\set ON_ERROR_STOP on
+
+INSERT INTO categories (name)
+SELECT 'category ' || g FROM generate_series(1, 50) g;
+
+INSERT INTO events (annotation, description, category_id, initiator_id, lat, lon, title, event_date,
+                    published_on, paid, participant_limit, request_moderation, state)
+SELECT 'annotation ' || g,
+       'description ' || g,
+       1 + g % 50,
+       1 + g % 5000,
+       55 + random(),
+       37 + random(),
+       'title ' || g,
+       now() + (g % 730 - 365) * interval '1 day',
+       now(),
+       g % 2 = 0,
+       g % 4 * 10,
+       TRUE,
+       (CASE WHEN g % 10 < 7 THEN 'PUBLISHED' WHEN g % 10 < 9 THEN 'PENDING' ELSE 'CANCELED' END)::event_state
+FROM generate_series(1, 200000) g;
+
+INSERT INTO comments (event_id, author_id, text, created_on, is_deleted)
+SELECT 1 + g % 200000, 1 + g % 5000, 'comment ' || g, now() - g * interval '1 second', g % 20 = 0
+FROM generate_series(1, 500000) g;
+
+INSERT INTO event_views (event_id, initiator_name, confirmed_requests, rating, updated_on)
+SELECT id, 'user ' || initiator_id, participant_limit / 2, random(), now() FROM events;
+
+ANALYZE categories;
+ANALYZE events;
+ANALYZE comments;
+ANALYZE event_views;
+
+CREATE OR REPLACE FUNCTION pg_temp.assert_no_seq_scan(name TEXT, query TEXT) RETURNS VOID AS $$
+DECLARE
+    line TEXT;
+    plan TEXT := '';
+BEGIN
+    FOR line IN EXECUTE 'EXPLAIN ' || query LOOP
+        plan := plan || line || E'\n';
+    END LOOP;
+    IF plan ~ 'Seq Scan on (events|comments)' THEN
+        RAISE EXCEPTION 'Запрос "%" читает таблицу целиком:%', name, E'\n' || plan;
+    END IF;
+    RAISE NOTICE 'OK: %', name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- EventRepositoryImpl.searchEventsByPublic, сортировка EVENT_DATE
+SELECT pg_temp.assert_no_seq_scan('public search by date', $q$
+    SELECT e.id FROM events e LEFT JOIN event_views v ON v.event_id = e.id
+    WHERE e.state = 'PUBLISHED' AND e.event_date > now()
+    ORDER BY e.event_date LIMIT 10 OFFSET 0
+$q$);
+
+-- то же с фильтром по категориям
+SELECT pg_temp.assert_no_seq_scan('public search by categories', $q$
+    SELECT e.id FROM events e LEFT JOIN event_views v ON v.event_id = e.id
+    WHERE e.state = 'PUBLISHED' AND e.category_id IN (3, 7) AND e.event_date > now()
+    ORDER BY e.event_date LIMIT 10 OFFSET 0
+$q$);
+
+-- keyset-страница публичного поиска
+SELECT pg_temp.assert_no_seq_scan('public search keyset', $q$
+    SELECT e.id FROM events e LEFT JOIN event_views v ON v.event_id = e.id
+    WHERE e.state = 'PUBLISHED' AND e.event_date > now()
+      AND (e.event_date > now() + interval '100 days'
+           OR (e.event_date = now() + interval '100 days' AND e.id > 1000))
+    ORDER BY e.event_date, e.id LIMIT 11
+$q$);
+
+-- публичный поиск в радиусе с сортировкой по расстоянию
+SELECT pg_temp.assert_no_seq_scan('public search near point', $q$
+    SELECT e.id FROM events e LEFT JOIN event_views v ON v.event_id = e.id
+    WHERE e.state = 'PUBLISHED' AND e.event_date > now()
+      AND (earth_box(ll_to_earth(55.5, 37.5), 2000.0) @> ll_to_earth(e.lat, e.lon)
+           AND earth_distance(ll_to_earth(55.5, 37.5), ll_to_earth(e.lat, e.lon)) <= 2000.0) = true
+    ORDER BY earth_distance(ll_to_earth(55.5, 37.5), ll_to_earth(e.lat, e.lon)), e.id LIMIT 10 OFFSET 0
+$q$);
+
+-- EventRepositoryImpl.searchEventsByAdmin
+SELECT pg_temp.assert_no_seq_scan('admin search by users', $q$
+    SELECT e.id FROM events e
+    WHERE e.initiator_id IN (10, 20, 30) AND e.event_date > now() - interval '30 days'
+    ORDER BY e.event_date DESC LIMIT 10 OFFSET 0
+$q$);
+
+SELECT pg_temp.assert_no_seq_scan('admin search by states', $q$
+    SELECT e.id FROM events e
+    WHERE e.state IN ('PENDING') AND e.event_date BETWEEN now() AND now() + interval '7 days'
+    ORDER BY e.event_date DESC LIMIT 10 OFFSET 0
+$q$);
+
+SELECT pg_temp.assert_no_seq_scan('admin search by categories', $q$
+    SELECT e.id FROM events e
+    WHERE e.category_id IN (5) AND e.event_date > now()
+    ORDER BY e.event_date DESC LIMIT 10 OFFSET 0
+$q$);
+
+-- EventRepository.findByInitiatorId / countByCategoryId
+SELECT pg_temp.assert_no_seq_scan('events of initiator', $q$
+    SELECT e.id FROM events e WHERE e.initiator_id = 42 LIMIT 10 OFFSET 0
+$q$);
+
+SELECT pg_temp.assert_no_seq_scan('count by category', $q$
+    SELECT count(e.id) FROM events e WHERE e.category_id = 12
+$q$);
+
+-- CommentRepository.findPublishedByEventId / findPublishedByEventIdBefore
+SELECT pg_temp.assert_no_seq_scan('comments of event', $q$
+    SELECT c.id FROM comments c WHERE c.event_id = 777 AND c.is_deleted = false
+    ORDER BY c.created_on DESC, c.id DESC LIMIT 10
+$q$);
+
+SELECT pg_temp.assert_no_seq_scan('comments of event keyset', $q$
+    SELECT c.id FROM comments c WHERE c.event_id = 777 AND c.is_deleted = false
+      AND (c.created_on < now() OR (c.created_on = now() AND c.id < 100000))
+    ORDER BY c.created_on DESC, c.id DESC LIMIT 11
+$q$);
+
+-- CommentRepository.findLatestByEventIds: превью для списка карточек
+SELECT pg_temp.assert_no_seq_scan('latest comments of events', $q$
+    SELECT id FROM (
+        SELECT c.id, row_number() OVER (PARTITION BY c.event_id ORDER BY c.created_on DESC, c.id DESC) AS rn
+        FROM comments c WHERE c.event_id IN (1, 2, 3, 4, 5, 6, 7, 8, 9, 10) AND c.is_deleted = FALSE) latest
+    WHERE rn <= 3
+$q$);
+
+-- админский список комментариев автора
+SELECT pg_temp.assert_no_seq_scan('comments of author', $q$
+    SELECT c.id FROM comments c WHERE c.author_id = 15 LIMIT 10
+$q$);
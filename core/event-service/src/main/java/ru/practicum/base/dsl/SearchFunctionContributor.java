@@ -0,0 +1,43 @@
+package ru.practicum.base.dsl;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Регистрирует в HQL функции поиска по тексту на основе расширения PostgreSQL pg_trgm
+ * и поиска по расстоянию на основе расширения earthdistance.
+ */
+public class SearchFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.DOUBLE);
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.BOOLEAN);
+
+        // text_relevance(запрос, lower(annotation), lower(description))
+        functionContributions.getFunctionRegistry().registerPattern(
+                "text_relevance",
+                "greatest(word_similarity(?1, ?2), coalesce(word_similarity(?1, ?3), 0))",
+                doubleType);
+
+        // geo_within(lat, lon, центр lat, центр lon, радиус в метрах): грубая проверка по кубу
+        // идёт по GiST-индексу на ll_to_earth(lat, lon), точная отсекает углы куба
+        functionContributions.getFunctionRegistry().registerPattern(
+                "geo_within",
+                "(earth_box(ll_to_earth(?3, ?4), ?5) @> ll_to_earth(?1, ?2)"
+                        + " and earth_distance(ll_to_earth(?3, ?4), ll_to_earth(?1, ?2)) <= ?5)",
+                booleanType);
+
+        // geo_distance(lat, lon, центр lat, центр lon) в метрах
+        functionContributions.getFunctionRegistry().registerPattern(
+                "geo_distance",
+                "earth_distance(ll_to_earth(?3, ?4), ll_to_earth(?1, ?2))",
+                doubleType);
+    }
+}
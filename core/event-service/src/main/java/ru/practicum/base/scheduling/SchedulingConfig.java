@@ -0,0 +1,32 @@
+package ru.practicum.base.scheduling;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import ru.practicum.event.service.EventViewUpdater;
+
+/**
+ * Перестроение read-модели работает в своём потоке, чтобы не задерживать
+ * опрос ленты пользователей и перезагрузку категорий в общем планировщике.
+ */
+@Configuration
+public class SchedulingConfig {
+
+    /**
+     * Общий планировщик; объявлен явно, потому что при наличии другого планировщика
+     * Spring Boot свой не создаёт.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(EventViewUpdater.SCHEDULER)
+    public ThreadPoolTaskScheduler eventViewScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("event-views-");
+        return scheduler;
+    }
+}
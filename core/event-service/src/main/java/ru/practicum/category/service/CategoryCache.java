@@ -0,0 +1,101 @@
+package ru.practicum.category.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.category.model.Category;
+import ru.practicum.category.repository.CategoryRepository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Полная копия справочника категорий в памяти. Категорий мало и меняются они редко,
+ * поэтому имена для DTO берутся отсюда без обращения к БД. Изменения через
+ * {@link CategoryServiceImpl} применяются после коммита, изменения с других
+ * экземпляров сервиса подтягиваются периодической перезагрузкой.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryCache {
+
+    private final CategoryRepository categoryRepository;
+    private final Object swapLock = new Object();
+    private volatile Map<Long, String> names = new ConcurrentHashMap<>();
+
+    // Число локальных изменений; перезагрузка не подменяет справочник, если за время
+    // чтения из БД что-то поменялось, иначе снимок затёр бы более новое значение
+    private long localChanges;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${event-service.category-cache.reload-interval:PT5M}",
+            initialDelayString = "${event-service.category-cache.reload-interval:PT5M}")
+    public void reload() {
+        long changesBefore;
+        synchronized (swapLock) {
+            changesBefore = localChanges;
+        }
+        Map<Long, String> loaded = new ConcurrentHashMap<>();
+        categoryRepository.findAll().forEach(c -> loaded.put(c.getId(), c.getName()));
+        synchronized (swapLock) {
+            if (localChanges != changesBefore) {
+                log.debug("Categories changed during reload, keeping current cache until next reload");
+                return;
+            }
+            names = loaded;
+        }
+        log.debug("Category cache reloaded: {} categories", loaded.size());
+    }
+
+    public String getName(Long categoryId) {
+        if (categoryId == null) return null;
+
+        String name = names.get(categoryId);
+        if (name == null) {
+            name = categoryRepository.findById(categoryId)
+                    .map(Category::getName)
+                    .orElse(null);
+            if (name != null) {
+                names.put(categoryId, name);
+            }
+        }
+        return name;
+    }
+
+    public void putAfterCommit(Category category) {
+        Long id = category.getId();
+        String name = category.getName();
+        afterCommit(() -> applyLocalChange(map -> map.put(id, name)));
+    }
+
+    public void evictAfterCommit(Long categoryId) {
+        afterCommit(() -> applyLocalChange(map -> map.remove(categoryId)));
+    }
+
+    private void applyLocalChange(Consumer<Map<Long, String>> change) {
+        synchronized (swapLock) {
+            change.accept(names);
+            localChanges++;
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -24,6 +24,7 @@ public class CategoryServiceImpl implements CategoryService {
     private final EventRepository eventRepository;
     private final CategoryMapper mapper;
     private final EntityValidator entityValidator;
+    private final CategoryCache categoryCache;
 
     @Override
     @Transactional
@@ -33,6 +34,7 @@ public class CategoryServiceImpl implements CategoryService {
         }
 
         Category saved = categoryRepository.save(mapper.toEntity(newCategory));
+        categoryCache.putAfterCommit(saved);
         return mapper.toDto(saved);
     }
 
@@ -47,6 +49,7 @@ public class CategoryServiceImpl implements CategoryService {
         }
 
         categoryRepository.deleteById(catId);
+        categoryCache.evictAfterCommit(catId);
     }
 
     @Override
@@ -61,6 +64,7 @@ public class CategoryServiceImpl implements CategoryService {
 
         existing.setName(categoryDto.getName());
         Category saved = categoryRepository.save(existing);
+        categoryCache.putAfterCommit(saved);
         return mapper.toDto(saved);
     }
 
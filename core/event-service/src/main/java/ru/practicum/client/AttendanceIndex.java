@@ -0,0 +1,74 @@
+package ru.practicum.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Локальные списки участников событий (пользователей с подтверждёнными заявками) в виде
+ * отсортированных массивов id. Подтверждённую заявку отменить нельзя, поэтому списки только растут:
+ * найденный в массиве пользователь точно участник, а промах перепроверяется в request-service
+ * и при подтверждении дописывается в массив.
+ */
+@Slf4j
+@Component
+public class AttendanceIndex {
+
+    private final RequestFeignClient requestFeignClient;
+    private final Cache<Long, long[]> attendees;
+
+    public AttendanceIndex(RequestFeignClient requestFeignClient, AttendanceIndexProperties properties) {
+        this.requestFeignClient = requestFeignClient;
+        this.attendees = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+    }
+
+    public boolean hasAttended(long userId, long eventId) {
+        long[] known = getAttendees(List.of(eventId)).get(eventId);
+        if (known != null && Arrays.binarySearch(known, userId) >= 0) {
+            return true;
+        }
+
+        boolean confirmed = requestFeignClient.hasConfirmedRequest(userId, eventId);
+        if (confirmed) {
+            attendees.asMap().computeIfPresent(eventId, (id, current) -> insert(current, userId));
+        }
+        return confirmed;
+    }
+
+    /**
+     * Загружает недостающие списки одним запросом; при недоступности request-service возвращает то, что есть.
+     */
+    public Map<Long, long[]> getAttendees(Collection<Long> eventIds) {
+        try {
+            return attendees.getAll(new HashSet<>(eventIds), this::load);
+        } catch (RuntimeException e) {
+            log.warn("Failed to load attendance for events {}: {}", eventIds, e.getMessage());
+            return attendees.getAllPresent(eventIds);
+        }
+    }
+
+    private Map<Long, long[]> load(Set<? extends Long> eventIds) {
+        Map<Long, long[]> loaded = requestFeignClient.getAttendance(new ArrayList<>(eventIds)).getAttendees();
+        log.debug("Loaded attendance for {} events", loaded.size());
+        return loaded;
+    }
+
+    private static long[] insert(long[] sorted, long userId) {
+        int position = Arrays.binarySearch(sorted, userId);
+        if (position >= 0) {
+            return sorted;
+        }
+        int insertAt = -position - 1;
+        long[] result = new long[sorted.length + 1];
+        System.arraycopy(sorted, 0, result, 0, insertAt);
+        result[insertAt] = userId;
+        System.arraycopy(sorted, insertAt, result, insertAt + 1, sorted.length - insertAt);
+        return result;
+    }
+}
@@ -0,0 +1,21 @@
+package ru.practicum.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "event-service.attendance-index")
+public class AttendanceIndexProperties {
+    /**
+     * Сколько хранится список участников события до полной перезагрузки.
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    private long maxSize = 10_000;
+}
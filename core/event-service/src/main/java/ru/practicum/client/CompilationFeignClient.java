@@ -0,0 +1,17 @@
+package ru.practicum.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+
+@FeignClient(
+        name = "compilation-service",
+        fallback = CompilationFeignClientFallback.class
+)
+public interface CompilationFeignClient {
+
+    @PostMapping("/compilations/cache/events/invalidate")
+    void invalidateByEvents(@RequestBody List<Long> eventIds);
+}
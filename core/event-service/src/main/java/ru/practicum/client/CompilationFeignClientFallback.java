@@ -0,0 +1,16 @@
+package ru.practicum.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Slf4j
+public class CompilationFeignClientFallback implements CompilationFeignClient {
+
+    @Override
+    public void invalidateByEvents(List<Long> eventIds) {
+        log.warn("Compilation Service unavailable, compilations with events {} stay cached until refresh", eventIds);
+    }
+}
@@ -2,6 +2,7 @@ package ru.practicum.client;
 
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.dto.request.EventAttendanceDto;
 import ru.practicum.dto.request.EventRequestStatusUpdateRequest;
 import ru.practicum.dto.request.EventRequestStatusUpdateResult;
 import ru.practicum.dto.request.ParticipationRequestDto;
@@ -20,6 +21,9 @@ public interface RequestFeignClient {
     @PostMapping("/requests/stats")
     RequestStatsDto getRequestStats(@RequestBody List<Long> eventIds);
 
+    @PostMapping("/requests/attendance")
+    EventAttendanceDto getAttendance(@RequestBody List<Long> eventIds);
+
     @GetMapping("/users/{userId}/events/{eventId}/requests")
     List<ParticipationRequestDto> getEventRequests(
             @PathVariable Long userId,
@@ -31,6 +35,9 @@ public interface RequestFeignClient {
             @PathVariable Long eventId,
             @RequestBody EventRequestStatusUpdateRequest updateRequest);
 
+    @PostMapping("/requests/cache/events/invalidate")
+    void invalidateEventMeta(@RequestBody List<Long> eventIds);
+
     @GetMapping("/internal/requests/confirmed")
     boolean hasConfirmedRequest(@RequestParam("userId") long userId,
                                 @RequestParam("eventId") long eventId);
@@ -2,6 +2,7 @@ package ru.practicum.client;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import ru.practicum.dto.request.EventAttendanceDto;
 import ru.practicum.dto.request.EventRequestStatusUpdateRequest;
 import ru.practicum.dto.request.EventRequestStatusUpdateResult;
 import ru.practicum.dto.request.ParticipationRequestDto;
@@ -21,6 +22,12 @@ public class RequestFeignClientFallback implements RequestFeignClient {
                 .confirmedRequests(new HashMap<>())
                 .build();
     }
+    @Override
+    public EventAttendanceDto getAttendance(List<Long> eventIds) {
+        log.error("Request Service unavailable for attendance of events: {}", eventIds);
+        throw new RuntimeException("Request Service is temporarily unavailable");
+    }
+
     @Override
     public List<ParticipationRequestDto> getEventRequests(Long userId, Long eventId) {
         log.error("Request Service unavailable for event: {}", eventId);
@@ -33,6 +40,11 @@ public class RequestFeignClientFallback implements RequestFeignClient {
         throw new RuntimeException("Request Service is temporarily unavailable");
     }
 
+    @Override
+    public void invalidateEventMeta(List<Long> eventIds) {
+        log.warn("Request Service unavailable, event meta for {} stays cached until TTL", eventIds);
+    }
+
     @Override
     public boolean hasConfirmedRequest(long userId, long eventId) {
         log.warn("Request Service unavailable, returning false for hasConfirmedRequest");
@@ -0,0 +1,118 @@
+package ru.practicum.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.practicum.dto.user.UserChangesDto;
+import ru.practicum.dto.user.UserShortDto;
+import ru.practicum.event.dto.UsersChangedEvent;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Локальная копия кратких данных пользователей для обогащения событий.
+ * Промахи догружаются одним пакетным запросом в user-service, изменённые
+ * и удалённые пользователи вытесняются по ленте изменений user-service.
+ */
+@Slf4j
+@Component
+public class UserCache {
+
+    private final UserFeignClient userFeignClient;
+    private final UserCacheProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache<Long, UserShortDto> cache;
+
+    /**
+     * Номер последнего обработанного изменения, -1 — лента ещё не читалась.
+     */
+    private volatile long lastSeq = -1;
+
+    /**
+     * Номера уже применённых изменений из перечитываемого хвоста ленты.
+     */
+    private final NavigableSet<Long> appliedSeqs = new ConcurrentSkipListSet<>();
+
+    public UserCache(UserFeignClient userFeignClient, UserCacheProperties properties,
+                     ApplicationEventPublisher eventPublisher) {
+        this.userFeignClient = userFeignClient;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+    }
+
+    /**
+     * Возвращает найденных пользователей; отсутствующие в user-service в результат не попадают
+     * и не кэшируются.
+     */
+    public Map<Long, UserShortDto> getUsers(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Map.of();
+        }
+        return cache.getAll(new HashSet<>(userIds), this::load);
+    }
+
+    private Map<Long, UserShortDto> load(Set<? extends Long> userIds) {
+        Map<Long, UserShortDto> users = userFeignClient.getUsersByIds(new ArrayList<>(userIds)).getUsers();
+        log.debug("Loaded {} of {} users into cache", users.size(), userIds.size());
+        return users;
+    }
+
+    /**
+     * Перечитывает ленту, начиная с {@code rescan-window} изменений до последнего обработанного:
+     * транзакция с меньшим номером могла закоммититься позже уже прочитанных. Уже применённые
+     * изменения из этого окна повторно не применяются.
+     */
+    @Scheduled(fixedDelayString = "${event-service.user-cache.poll-interval:PT5S}")
+    public void pollChanges() {
+        try {
+            if (lastSeq < 0) {
+                lastSeq = userFeignClient.getUserChanges(-1, 1).getLastSeq();
+                return;
+            }
+            long cursor = Math.max(0, lastSeq - properties.getRescanWindow());
+            UserChangesDto changes;
+            do {
+                changes = userFeignClient.getUserChanges(cursor, properties.getPollLimit());
+                applyChanges(changes);
+                if (!changes.getChanges().isEmpty()) {
+                    cursor = changes.getChanges().getLast().getSeq();
+                }
+            } while (changes.getChanges().size() >= properties.getPollLimit());
+            appliedSeqs.headSet(lastSeq - properties.getRescanWindow()).clear();
+        } catch (Exception e) {
+            log.warn("Failed to poll user changes: {}", e.getMessage());
+        }
+    }
+
+    private void applyChanges(UserChangesDto changes) {
+        long seq = changes.getLastSeq();
+        if (changes.getChanges().isEmpty() && seq < lastSeq) {
+            // user-service начал ленту заново (например, после пересоздания схемы)
+            log.info("User change feed restarted ({} -> {}), clearing user cache", lastSeq, seq);
+            cache.invalidateAll();
+            appliedSeqs.clear();
+            lastSeq = seq;
+            return;
+        }
+
+        List<Long> userIds = changes.getChanges().stream()
+                .filter(change -> appliedSeqs.add(change.getSeq()))
+                .map(UserChangesDto.Change::getUserId)
+                .distinct()
+                .toList();
+        if (!userIds.isEmpty()) {
+            cache.invalidateAll(userIds);
+            eventPublisher.publishEvent(new UsersChangedEvent(userIds));
+            log.debug("Invalidated {} changed users", userIds.size());
+        }
+        lastSeq = Math.max(lastSeq, seq);
+    }
+}
@@ -0,0 +1,34 @@
+package ru.practicum.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "event-service.user-cache")
+public class UserCacheProperties {
+    /**
+     * Страховочный срок жизни записи на случай пропущенных изменений.
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    private long maxSize = 10_000;
+
+    /**
+     * Как часто запрашивается лента изменений пользователей.
+     */
+    private Duration pollInterval = Duration.ofSeconds(5);
+
+    private int pollLimit = 1000;
+
+    /**
+     * Сколько последних номеров ленты перечитывается при каждом опросе, чтобы не пропустить
+     * изменения из транзакций, закоммиченных позже изменений с большими номерами.
+     */
+    private long rescanWindow = 200;
+}
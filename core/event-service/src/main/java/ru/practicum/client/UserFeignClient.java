@@ -5,7 +5,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import ru.practicum.dto.user.UserBatchDto;
+import ru.practicum.dto.user.UserChangesDto;
 import ru.practicum.dto.user.UserDto;
 
 import java.util.List;
@@ -21,4 +23,7 @@ public interface UserFeignClient {
 
     @GetMapping("/admin/users/{userId}")
     UserDto getUserById(@PathVariable Long userId);
+
+    @GetMapping("/admin/users/changes")
+    UserChangesDto getUserChanges(@RequestParam("since") long since, @RequestParam("limit") int limit);
 }
\ No newline at end of file
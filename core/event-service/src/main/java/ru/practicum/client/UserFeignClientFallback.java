@@ -3,6 +3,7 @@ package ru.practicum.client;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import ru.practicum.dto.user.UserBatchDto;
+import ru.practicum.dto.user.UserChangesDto;
 import ru.practicum.dto.user.UserDto;
 
 import java.util.HashMap;
@@ -24,4 +25,10 @@ public class UserFeignClientFallback implements UserFeignClient {
         log.error("User Service unavailable for user: {}", userId);
         throw new RuntimeException("User Service is temporarily unavailable");
     }
+
+    @Override
+    public UserChangesDto getUserChanges(long since, int limit) {
+        log.warn("User Service unavailable, user changes not polled");
+        throw new RuntimeException("User Service is temporarily unavailable");
+    }
 }
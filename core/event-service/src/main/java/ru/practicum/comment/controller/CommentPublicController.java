@@ -1,20 +1,43 @@
 package ru.practicum.comment.controller;
 
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
 import ru.practicum.comment.dto.CommentDto;
 import ru.practicum.comment.service.CommentService;
+import ru.practicum.dto.page.CursorPage;
+import ru.practicum.dto.page.Cursors;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/events/{eventId}/comments")
 @RequiredArgsConstructor
+@Validated
 public class CommentPublicController {
 
     private final CommentService commentService;
 
+    @GetMapping
+    public ResponseEntity<List<CommentDto>> getComments(
+            @PathVariable Long eventId,
+            @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") int from,
+            @Positive @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "cursor", required = false) String cursor) {
+        if (cursor == null) {
+            return ResponseEntity.ok(commentService.getCommentsByEvent(eventId, from, size));
+        }
+
+        CursorPage<CommentDto> page = commentService.getCommentsByEventPage(eventId, cursor, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(Cursors.NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
+    }
 
     @GetMapping("/{commentId}")
     public CommentDto getComment(@PathVariable Long commentId) {
@@ -0,0 +1,33 @@
+package ru.practicum.comment.controller;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import ru.practicum.comment.dto.CommentSummaryDto;
+import ru.practicum.comment.service.CommentService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/comments")
+@RequiredArgsConstructor
+@Validated
+public class CommentSummaryController {
+
+    private final CommentService commentService;
+
+    // Число комментариев и последние комментарии для карточек списка событий одним запросом
+    @GetMapping("/summary")
+    public List<CommentSummaryDto> getSummaries(
+            @NotEmpty @Size(max = 100) @RequestParam(name = "eventIds") List<Long> eventIds,
+            @PositiveOrZero @Max(20) @RequestParam(name = "previewSize", defaultValue = "3") int previewSize) {
+        return commentService.getSummaries(eventIds, previewSize);
+    }
+}
@@ -0,0 +1,16 @@
+package ru.practicum.comment.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentSummaryDto {
+
+    private Long eventId;
+    private long comments;
+    private List<CommentDto> latest;
+}
@@ -4,6 +4,7 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import ru.practicum.comment.dto.CommentDto;
 import ru.practicum.comment.model.Comment;
+import ru.practicum.comment.repository.CommentPreview;
 
 @Mapper(componentModel = "spring")
 public interface CommentMapper {
@@ -11,4 +12,7 @@ public interface CommentMapper {
     @Mapping(target = "authorId", source = "authorId")
     @Mapping(target = "eventId", source = "event.id")
     CommentDto toDto(Comment comment);
+
+    @Mapping(target = "authorName", ignore = true)
+    CommentDto toDto(CommentPreview preview);
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package ru.practicum.comment.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Число неудалённых комментариев события; меняется инкрементально в
+ * {@link ru.practicum.comment.service.CommentServiceImpl}, а не пересчитывается.
+ */
+@Entity
+@Table(name = "comment_counters")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentCounter {
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(nullable = false)
+    private long comments;
+}
@@ -0,0 +1,15 @@
+package ru.practicum.comment.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.comment.model.CommentCounter;
+
+public interface CommentCounterRepository extends JpaRepository<CommentCounter, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO comment_counters (event_id, comments) VALUES (:eventId, :delta) " +
+            "ON CONFLICT (event_id) DO UPDATE SET comments = comment_counters.comments + EXCLUDED.comments",
+            nativeQuery = true)
+    void add(Long eventId, long delta);
+}
@@ -0,0 +1,20 @@
+package ru.practicum.comment.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Строка превью последних комментариев события из {@link CommentRepository#findLatestByEventIds}.
+ */
+public interface CommentPreview {
+    Long getId();
+
+    Long getAuthorId();
+
+    Long getEventId();
+
+    String getText();
+
+    LocalDateTime getCreatedOn();
+
+    LocalDateTime getUpdatedOn();
+}
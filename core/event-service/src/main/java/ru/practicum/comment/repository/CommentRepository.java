@@ -1,37 +1,36 @@
 package ru.practicum.comment.repository;
 
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import ru.practicum.comment.model.Comment;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface CommentRepository extends JpaRepository<Comment, Long>, JpaSpecificationExecutor<Comment> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
 
-    default List<Comment> findAllByEventId(Long eventId, Pageable pageable) {
-        return findAll(
-                CommentSpecs.fetchAll()
-                        .and(CommentSpecs.byEventId(eventId))
-                        .and(CommentSpecs.notDeleted()),
-                pageable
-        ).getContent();
-    }
+    /**
+     * Помечает комментарий удалённым; 0, если он уже был удалён, в том числе параллельным запросом.
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.isDeleted = true WHERE c.id = :commentId AND c.isDeleted = false")
+    int markDeleted(Long commentId);
 
-    default List<Comment> findAllFiltered(Long eventId, Long authorId, Boolean includeDeleted, Pageable pageable) {
-        Specification<Comment> spec = CommentSpecs.fetchAll();
+    /**
+     * Снимает пометку удаления; 0, если комментарий уже активен, в том числе после параллельного запроса.
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.isDeleted = false WHERE c.id = :commentId AND c.isDeleted = true")
+    int markRestored(Long commentId);
 
-        if (eventId != null) {
-            spec = spec.and(CommentSpecs.byEventId(eventId));
-        }
-        if (authorId != null) {
-            spec = spec.and(CommentSpecs.byAuthorId(authorId));
-        }
-        if (includeDeleted == null || !includeDeleted) {
-            spec = spec.and(CommentSpecs.notDeleted());
-        }
-
-        return findAll(spec, pageable).getContent();
-    }
-}
\ No newline at end of file
+    // row_number по (event_id, created_on DESC, id DESC) читается из частичного индекса idx_comments_event_created
+    @Query(value = "SELECT id, \"authorId\", \"eventId\", text, \"createdOn\", \"updatedOn\" FROM (" +
+            "SELECT c.id AS id, c.author_id AS \"authorId\", c.event_id AS \"eventId\", c.text AS text, " +
+            "c.created_on AS \"createdOn\", c.updated_on AS \"updatedOn\", " +
+            "row_number() OVER (PARTITION BY c.event_id ORDER BY c.created_on DESC, c.id DESC) AS rn " +
+            "FROM comments c WHERE c.event_id IN (:eventIds) AND c.is_deleted = FALSE) latest " +
+            "WHERE rn <= :limit ORDER BY \"eventId\", rn",
+            nativeQuery = true)
+    List<CommentPreview> findLatestByEventIds(Collection<Long> eventIds, int limit);
+}
@@ -0,0 +1,15 @@
+package ru.practicum.comment.repository;
+
+import ru.practicum.comment.dto.CommentAdminFilter;
+import ru.practicum.comment.dto.CommentDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CommentRepositoryCustom {
+    List<CommentDto> findAllByEventId(Long eventId, int from, int size);
+
+    List<CommentDto> findAllByEventIdBefore(Long eventId, LocalDateTime createdOn, Long id, int size);
+
+    List<CommentDto> findAllFiltered(CommentAdminFilter filter);
+}
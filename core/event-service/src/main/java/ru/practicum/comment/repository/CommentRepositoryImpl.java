@@ -0,0 +1,78 @@
+package ru.practicum.comment.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import ru.practicum.comment.dto.CommentAdminFilter;
+import ru.practicum.comment.dto.CommentDto;
+import ru.practicum.comment.model.QComment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Списки комментариев читаются сразу в {@link CommentDto} без загрузки сущностей и связанного события,
+ * а offset/limit уходят в SQL — память и время не зависят от числа комментариев события.
+ */
+@RequiredArgsConstructor
+public class CommentRepositoryImpl implements CommentRepositoryCustom {
+    private static final QComment comment = QComment.comment;
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<CommentDto> findAllByEventId(Long eventId, int from, int size) {
+        return select(comment.event.id.eq(eventId).and(comment.isDeleted.isFalse()))
+                .offset(from)
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<CommentDto> findAllByEventIdBefore(Long eventId, LocalDateTime createdOn, Long id, int size) {
+        return select(comment.event.id.eq(eventId)
+                .and(comment.isDeleted.isFalse())
+                .and(comment.createdOn.lt(createdOn)
+                        .or(comment.createdOn.eq(createdOn).and(comment.id.lt(id)))))
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<CommentDto> findAllFiltered(CommentAdminFilter filter) {
+        BooleanBuilder where = new BooleanBuilder();
+
+        if (filter.getEventId() != null) {
+            where.and(comment.event.id.eq(filter.getEventId()));
+        }
+        if (filter.getAuthorId() != null) {
+            where.and(comment.authorId.eq(filter.getAuthorId()));
+        }
+        if (!Boolean.TRUE.equals(filter.getIncludeDeleted())) {
+            where.and(comment.isDeleted.isFalse());
+        }
+
+        return select(where)
+                .offset(filter.getFrom())
+                .limit(filter.getSize())
+                .fetch();
+    }
+
+    // event.id берётся из внешнего ключа comments.event_id, соединения с events нет
+    private JPQLQuery<CommentDto> select(Predicate where) {
+        return queryFactory
+                .select(Projections.bean(CommentDto.class,
+                        comment.id,
+                        comment.authorId,
+                        comment.event.id.as("eventId"),
+                        comment.text,
+                        comment.createdOn,
+                        comment.updatedOn))
+                .from(comment)
+                .where(where)
+                .orderBy(comment.createdOn.desc(), comment.id.desc());
+    }
+}
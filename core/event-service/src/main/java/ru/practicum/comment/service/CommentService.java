@@ -2,8 +2,10 @@ package ru.practicum.comment.service;
 
 import ru.practicum.comment.dto.CommentAdminFilter;
 import ru.practicum.comment.dto.CommentDto;
+import ru.practicum.comment.dto.CommentSummaryDto;
 import ru.practicum.comment.dto.NewCommentDto;
 import ru.practicum.comment.dto.UpdateCommentDto;
+import ru.practicum.dto.page.CursorPage;
 
 import java.util.List;
 
@@ -19,8 +21,12 @@ public interface CommentService {
 
     List<CommentDto> getCommentsByEvent(Long eventId, int from, int size);
 
+    CursorPage<CommentDto> getCommentsByEventPage(Long eventId, String cursor, int size);
+
     List<CommentDto> getAllComments(CommentAdminFilter filter);
 
+    List<CommentSummaryDto> getSummaries(List<Long> eventIds, int previewSize);
+
     CommentDto adminUpdateComment(Long commentId, String text);
 
     void adminDeleteComment(Long commentId);
@@ -2,32 +2,35 @@ package ru.practicum.comment.service;
 
 import feign.FeignException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.client.UserFeignClient;
 import ru.practicum.comment.dto.CommentAdminFilter;
 import ru.practicum.comment.dto.CommentDto;
+import ru.practicum.comment.dto.CommentSummaryDto;
 import ru.practicum.comment.dto.NewCommentDto;
 import ru.practicum.comment.dto.UpdateCommentDto;
 import ru.practicum.comment.mapper.CommentMapper;
 import ru.practicum.comment.model.Comment;
+import ru.practicum.comment.repository.CommentCounterRepository;
 import ru.practicum.comment.repository.CommentRepository;
 import ru.practicum.common.EntityValidator;
+import ru.practicum.dto.page.CursorPage;
+import ru.practicum.dto.page.Cursors;
 import ru.practicum.event.dao.EventRepository;
 import ru.practicum.event.model.Event;
 import ru.practicum.exception.NotFoundException;
 import ru.practicum.exception.ValidationException;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
 
     private final CommentRepository commentRepository;
+    private final CommentCounterRepository commentCounterRepository;
     private final UserFeignClient userFeignClient;
     private final EventRepository eventRepository;
     private final CommentMapper commentMapper;
@@ -52,7 +55,9 @@ public class CommentServiceImpl implements CommentService {
                 .isDeleted(false)
                 .build();
 
-        return commentMapper.toDto(commentRepository.save(comment));
+        CommentDto saved = commentMapper.toDto(commentRepository.save(comment));
+        commentCounterRepository.add(eventId, 1);
+        return saved;
     }
 
     @Override
@@ -74,8 +79,7 @@ public class CommentServiceImpl implements CommentService {
         if (!comment.getAuthorId().equals(userId)) {  // Используем authorId
             throw new ValidationException("Нельзя удалять чужой комментарий");
         }
-        comment.setDeleted(true);
-        commentRepository.save(comment);
+        markDeleted(comment);
     }
 
     @Override
@@ -89,24 +93,23 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     public List<CommentDto> getCommentsByEvent(Long eventId, int from, int size) {
-        PageRequest pageable = PageRequest.of(from / size, size);
-        return commentRepository.findAllByEventId(eventId, pageable)
-                .stream()
-                .map(commentMapper::toDto)
-                .collect(Collectors.toList());
+        return commentRepository.findAllByEventId(eventId, from, size);
+    }
+
+    @Override
+    public CursorPage<CommentDto> getCommentsByEventPage(Long eventId, String cursor, int size) {
+        CommentCursor before = Cursors.decode(cursor, 2,
+                keys -> new CommentCursor(LocalDateTime.parse(keys[0]), Long.parseLong(keys[1])));
+        List<CommentDto> comments = before == null
+                ? commentRepository.findAllByEventId(eventId, 0, size + 1)
+                : commentRepository.findAllByEventIdBefore(eventId, before.createdOn(), before.id(), size + 1);
+
+        return CursorPage.of(comments, size, c -> Cursors.encode(c.getCreatedOn(), c.getId()));
     }
 
     @Override
     public List<CommentDto> getAllComments(CommentAdminFilter filter) {
-        PageRequest pageable = PageRequest.of(filter.getFrom() / filter.getSize(), filter.getSize());
-        return commentRepository.findAllFiltered(
-                        filter.getEventId(),
-                        filter.getAuthorId(),
-                        filter.getIncludeDeleted(),
-                        pageable)
-                .stream()
-                .map(commentMapper::toDto)
-                .collect(Collectors.toList());
+        return commentRepository.findAllFiltered(filter);
     }
 
     @Override
@@ -122,18 +125,48 @@ public class CommentServiceImpl implements CommentService {
     @Transactional
     public void adminDeleteComment(Long commentId) {
         Comment comment = entityValidator.ensureAndGet(commentRepository, commentId, "Комментарий");
-        comment.setDeleted(true);
-        commentRepository.save(comment);
+        markDeleted(comment);
     }
 
     @Override
     @Transactional
     public void restoreComment(Long commentId) {
         Comment comment = entityValidator.ensureAndGet(commentRepository, commentId, "Комментарий");
-        if (!comment.isDeleted()) {
+        if (commentRepository.markRestored(comment.getId()) == 0) {
             throw new ValidationException("Комментарий уже активен");
         }
-        comment.setDeleted(false);
-        commentRepository.save(comment);
+        commentCounterRepository.add(comment.getEvent().getId(), 1);
+    }
+
+    @Override
+    public List<CommentSummaryDto> getSummaries(List<Long> eventIds, int previewSize) {
+        Set<Long> ids = new LinkedHashSet<>(eventIds);
+        Map<Long, Long> counts = new HashMap<>();
+        commentCounterRepository.findAllById(ids).forEach(c -> counts.put(c.getEventId(), c.getComments()));
+
+        Map<Long, List<CommentDto>> latest = new HashMap<>();
+        if (previewSize > 0) {
+            commentRepository.findLatestByEventIds(ids, previewSize).forEach(preview ->
+                    latest.computeIfAbsent(preview.getEventId(), id -> new ArrayList<>())
+                            .add(commentMapper.toDto(preview)));
+        }
+
+        return ids.stream()
+                .map(id -> CommentSummaryDto.builder()
+                        .eventId(id)
+                        .comments(counts.getOrDefault(id, 0L))
+                        .latest(latest.getOrDefault(id, List.of()))
+                        .build())
+                .toList();
+    }
+
+    // Счётчик уменьшается только тем запросом, чей условный UPDATE перевёл комментарий в удалённые
+    private void markDeleted(Comment comment) {
+        if (commentRepository.markDeleted(comment.getId()) == 1) {
+            commentCounterRepository.add(comment.getEvent().getId(), -1);
+        }
+    }
+
+    private record CommentCursor(LocalDateTime createdOn, Long id) {
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,13 @@
 package ru.practicum.event.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.dto.event.EventBatchDto;
 import ru.practicum.dto.event.EventFullDto;
+import ru.practicum.dto.event.EventMetaDto;
 import ru.practicum.event.service.EventService;
+import ru.practicum.event.service.EventViewUpdater;
 
 import java.util.List;
 
@@ -14,6 +17,7 @@ import java.util.List;
 public class InternalEventController {
 
     private final EventService eventService;
+    private final EventViewUpdater eventViewUpdater;
 
     @PostMapping("/batch")
     public EventBatchDto getEventsByIds(@RequestBody List<Long> eventIds) {
@@ -24,4 +28,15 @@ public class InternalEventController {
     public EventFullDto getEventByIdInternal(@PathVariable Long eventId) {
         return eventService.getEventByIdInternal(eventId);
     }
+
+    @GetMapping("/{eventId}/meta")
+    public EventMetaDto getEventMeta(@PathVariable Long eventId) {
+        return eventService.getEventMeta(eventId);
+    }
+
+    @PostMapping("/views/invalidate")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public void invalidateEventViews(@RequestBody List<Long> eventIds) {
+        eventViewUpdater.markDirty(eventIds);
+    }
 }
@@ -7,6 +7,7 @@ import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.client.RequestFeignClient;
@@ -14,6 +15,8 @@ import ru.practicum.dto.request.EventRequestStatusUpdateRequest;
 import ru.practicum.dto.request.EventRequestStatusUpdateResult;
 import ru.practicum.dto.event.EventFullDto;
 import ru.practicum.dto.event.EventShortDto;
+import ru.practicum.dto.page.CursorPage;
+import ru.practicum.dto.page.Cursors;
 import ru.practicum.dto.request.ParticipationRequestDto;
 import ru.practicum.event.dto.NewEventDto;
 import ru.practicum.event.dto.UpdateEventUserRequest;
@@ -34,11 +37,21 @@ public class PrivateEventController {
     private final RequestFeignClient requestFeignClient;
 
     @GetMapping
-    public List<EventShortDto> findUserEvents(@PathVariable long userId,
-                                              @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
-                                              @Positive @RequestParam(name = "size", defaultValue = "10") Integer size) {
-        UserEventsQuery query = new UserEventsQuery(userId, from, size);
-        return eventService.findEvents(query);
+    public ResponseEntity<List<EventShortDto>> findUserEvents(@PathVariable long userId,
+                                                              @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+                                                              @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                                                              @RequestParam(name = "cursor", required = false) String cursor) {
+        UserEventsQuery query = new UserEventsQuery(userId, from, size, cursor);
+        if (cursor == null) {
+            return ResponseEntity.ok(eventService.findEvents(query));
+        }
+
+        CursorPage<EventShortDto> page = eventService.findEventsPage(query);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(Cursors.NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
     }
 
     @PostMapping
@@ -8,6 +8,8 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.dto.event.EventFullDto;
 import ru.practicum.dto.event.EventShortDto;
+import ru.practicum.dto.page.CursorPage;
+import ru.practicum.dto.page.Cursors;
 import ru.practicum.event.dto.request.PublicEventFilter;
 import ru.practicum.event.service.EventService;
 
@@ -22,9 +24,18 @@ public class PublicEventController {
     private final EventService eventService;
 
     @GetMapping
-    public List<EventShortDto> searchPublicEvents(
+    public ResponseEntity<List<EventShortDto>> searchPublicEvents(
             @Valid PublicEventFilter filter) {
-        return eventService.searchPublicEvents(filter);
+        if (filter.getCursor() == null) {
+            return ResponseEntity.ok(eventService.searchPublicEvents(filter));
+        }
+
+        CursorPage<EventShortDto> page = eventService.searchPublicEventsPage(filter);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(Cursors.NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,24 @@
+package ru.practicum.event.dao;
+
+import ru.practicum.dto.page.Cursors;
+import ru.practicum.event.model.Event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ключ keyset-пагинации публичного поиска: (event_date, id) последнего события страницы.
+ */
+public record EventCursor(LocalDateTime eventDate, Long id) {
+
+    public static EventCursor of(Event event) {
+        return new EventCursor(event.getEventDate(), event.getId());
+    }
+
+    public static EventCursor decode(String cursor) {
+        return Cursors.decode(cursor, 2, keys -> new EventCursor(LocalDateTime.parse(keys[0]), Long.parseLong(keys[1])));
+    }
+
+    public String encode() {
+        return Cursors.encode(eventDate, id);
+    }
+}
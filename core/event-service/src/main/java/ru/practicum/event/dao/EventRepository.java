@@ -2,18 +2,29 @@ package ru.practicum.event.dao;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import ru.practicum.event.model.Event;
 import ru.practicum.event.model.EventState;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface EventRepository extends JpaRepository<Event, Long>, EventRepositoryCustom {
     List<Event> findByInitiatorId(Long id, Pageable pageable);
 
+    List<Event> findByInitiatorIdAndIdGreaterThanOrderByIdAsc(Long initiatorId, Long id, Pageable pageable);
+
     Optional<Event> findByIdAndInitiatorId(Long id, Long initiatorId);
 
     Optional<Event> findByIdAndState(Long id, EventState eventState);
 
     long countByCategoryId(Long categoryId);
+
+    @Query("SELECT e.id FROM Event e WHERE e.state = :state AND e.eventDate > :after AND e.id > :afterId ORDER BY e.id")
+    List<Long> findIdsByStateAndEventDateAfter(EventState state, LocalDateTime after, Long afterId, Pageable pageable);
+
+    @Query("SELECT e.id FROM Event e WHERE e.initiatorId IN :initiatorIds")
+    List<Long> findIdsByInitiatorIdIn(Collection<Long> initiatorIds);
 }
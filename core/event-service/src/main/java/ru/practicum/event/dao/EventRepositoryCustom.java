@@ -9,5 +9,7 @@ import java.util.List;
 public interface EventRepositoryCustom {
     List<Event> searchEventsByAdmin(AdminEventFilter filter);
 
-    List<Event> searchEventsByPublic(PublicEventFilter filter);
+    List<EventWithView> searchEventsByPublic(PublicEventFilter filter);
+
+    List<EventWithView> findAllWithViews(List<Long> eventIds);
 }
@@ -1,6 +1,9 @@
 package ru.practicum.event.dao;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -10,12 +13,15 @@ import ru.practicum.event.dto.request.PublicEventFilter;
 import ru.practicum.event.model.Event;
 import ru.practicum.event.model.EventState;
 import ru.practicum.event.model.QEvent;
+import ru.practicum.event.model.QEventView;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @RequiredArgsConstructor
 public class EventRepositoryImpl implements EventRepositoryCustom {
+    private static final double METERS_IN_KM = 1000.0;
+
     private final JPAQueryFactory queryFactory;
 
     @Override
@@ -55,14 +61,16 @@ public class EventRepositoryImpl implements EventRepositoryCustom {
     }
 
     @Override
-    public List<Event> searchEventsByPublic(PublicEventFilter filter) {
+    public List<EventWithView> searchEventsByPublic(PublicEventFilter filter) {
         QEvent event = QEvent.event;
+        QEventView view = QEventView.eventView;
         BooleanBuilder where = new BooleanBuilder();
 
         where.and(event.state.eq(EventState.PUBLISHED));
 
+        String search = null;
         if (filter.getText() != null && !filter.getText().isBlank()) {
-            String search = filter.getText().toLowerCase();
+            search = filter.getText().toLowerCase();
             where.and(
                     event.annotation.lower().contains(search)
                             .or(event.description.lower().contains(search))
@@ -84,22 +92,90 @@ public class EventRepositoryImpl implements EventRepositoryCustom {
             where.and(event.eventDate.after(start));
         }
 
+        if (filter.hasLocation()) {
+            where.and(Expressions.booleanTemplate("geo_within({0}, {1}, {2}, {3}, {4}) = true",
+                    event.location.lat, event.location.lon,
+                    Expressions.constant(filter.getLat()), Expressions.constant(filter.getLon()),
+                    Expressions.constant(filter.getRadius() * METERS_IN_KM)));
+        }
+
         if (Boolean.TRUE.equals(filter.getOnlyAvailable())) {
+            // строка read-модели могла ещё не построиться — тогда заявок считаем ноль
+            where.and(event.participantLimit.eq(0)
+                    .or(view.confirmedRequests.coalesce(0).lt(event.participantLimit)));
+        }
 
-            where.and(event.participantLimit.eq(0));
+        boolean keyset = filter.getCursor() != null;
+        EventCursor after = EventCursor.decode(filter.getCursor());
+        if (after != null) {
+            where.and(event.eventDate.gt(after.eventDate())
+                    .or(event.eventDate.eq(after.eventDate()).and(event.id.gt(after.id()))));
         }
 
-        JPQLQuery<Event> query = queryFactory
-                .selectFrom(event)
+        JPQLQuery<Tuple> query = queryFactory
+                .select(event, view)
+                .from(event)
+                .leftJoin(view).on(view.eventId.eq(event.id))
                 .where(where);
 
-        if (filter.getSort() == null || filter.getSort() == EventSort.EVENT_DATE) {
-            query.orderBy(event.eventDate.asc());
+        if (keyset) {
+            // на одну запись больше, чтобы понять, есть ли следующая страница
+            query.orderBy(event.eventDate.asc(), event.id.asc())
+                    .limit(filter.getSize() + 1);
+        } else if (filter.hasLocation()
+                && (filter.getSort() == null || filter.getSort() == EventSort.DISTANCE)) {
+            query.orderBy(distance(event, filter).asc(), event.id.asc());
+        } else if (filter.getSort() == EventSort.VIEWS) {
+            query.orderBy(view.rating.coalesce(0.0).desc(), event.id.asc());
+        } else if (filter.getSort() == EventSort.RELEVANCE && search != null) {
+            query.orderBy(relevance(event, search).desc(), event.eventDate.asc(), event.id.asc());
+        } else {
+            // id в конце — иначе при равных датах страницы offset-пагинации пересекаются
+            query.orderBy(event.eventDate.asc(), event.id.asc());
+        }
+
+        if (!keyset) {
+            query.offset(filter.getFrom())
+                    .limit(filter.getSize());
         }
 
         return query
-                .offset(filter.getFrom())
-                .limit(filter.getSize())
-                .fetch();
+                .fetch()
+                .stream()
+                .map(t -> new EventWithView(t.get(event), t.get(view)))
+                .toList();
+    }
+
+    @Override
+    public List<EventWithView> findAllWithViews(List<Long> eventIds) {
+        QEvent event = QEvent.event;
+        QEventView view = QEventView.eventView;
+
+        return queryFactory
+                .select(event, view)
+                .from(event)
+                .leftJoin(view).on(view.eventId.eq(event.id))
+                .where(event.id.in(eventIds))
+                .fetch()
+                .stream()
+                .map(t -> new EventWithView(t.get(event), t.get(view)))
+                .toList();
+    }
+
+    /**
+     * Расстояние от места события до точки из фильтра в метрах.
+     */
+    private NumberExpression<Double> distance(QEvent event, PublicEventFilter filter) {
+        return Expressions.numberTemplate(Double.class, "geo_distance({0}, {1}, {2}, {3})",
+                event.location.lat, event.location.lon,
+                Expressions.constant(filter.getLat()), Expressions.constant(filter.getLon()));
+    }
+
+    /**
+     * Сходство текста запроса с аннотацией или описанием по триграммам, от 0 до 1.
+     */
+    private NumberExpression<Double> relevance(QEvent event, String search) {
+        return Expressions.numberTemplate(Double.class, "text_relevance({0}, {1}, {2})",
+                Expressions.constant(search), event.annotation.lower(), event.description.lower());
     }
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package ru.practicum.event.dao;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import ru.practicum.event.model.EventView;
+
+public interface EventViewRepository extends JpaRepository<EventView, Long> {
+}
@@ -0,0 +1,10 @@
+package ru.practicum.event.dao;
+
+import ru.practicum.event.model.Event;
+import ru.practicum.event.model.EventView;
+
+/**
+ * Событие вместе с его строкой read-модели; {@code view} равен null, пока строка не построена.
+ */
+public record EventWithView(Event event, EventView view) {
+}
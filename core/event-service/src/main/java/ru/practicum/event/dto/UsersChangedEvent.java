@@ -0,0 +1,9 @@
+package ru.practicum.event.dto;
+
+import java.util.Collection;
+
+/**
+ * Публикуется при получении изменений пользователей из user-service.
+ */
+public record UsersChangedEvent(Collection<Long> userIds) {
+}
@@ -2,5 +2,7 @@ package ru.practicum.event.dto.enums;
 
 public enum EventSort {
     EVENT_DATE,
-    VIEWS
+    VIEWS,
+    RELEVANCE,
+    DISTANCE
 }
@@ -1,5 +1,7 @@
 package ru.practicum.event.dto.request;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
@@ -38,4 +40,31 @@ public class PublicEventFilter {
 
     @Positive(message = "Параметр 'size' должен быть положительным числом")
     private Integer size = 10;
+
+    /**
+     * Курсор keyset-пагинации вместо {@code from}; пустая строка — первая страница.
+     */
+    private String cursor;
+
+    /**
+     * Точка поиска «рядом со мной»; задаётся вместе с {@code lon}.
+     */
+    @DecimalMin(value = "-90.0", message = "Широта (lat) не может быть меньше -90.0")
+    @DecimalMax(value = "90.0", message = "Широта (lat) не может быть больше 90.0")
+    private Double lat;
+
+    @DecimalMin(value = "-180.0", message = "Долгота (lon) не может быть меньше -180.0")
+    @DecimalMax(value = "180.0", message = "Долгота (lon) не может быть больше 180.0")
+    private Double lon;
+
+    /**
+     * Радиус поиска вокруг точки в километрах.
+     */
+    @Positive(message = "Радиус (radius) должен быть положительным числом")
+    @DecimalMax(value = "20000.0", message = "Радиус (radius) не может быть больше 20000 км")
+    private Double radius = 10.0;
+
+    public boolean hasLocation() {
+        return lat != null && lon != null;
+    }
 }
\ No newline at end of file
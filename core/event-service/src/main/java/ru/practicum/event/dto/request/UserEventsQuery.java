@@ -1,4 +1,4 @@
 package ru.practicum.event.dto.request;
 
-public record UserEventsQuery(Long userId, Integer from, Integer size) {
+public record UserEventsQuery(Long userId, Integer from, Integer size, String cursor) {
 }
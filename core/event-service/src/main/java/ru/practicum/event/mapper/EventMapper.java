@@ -6,6 +6,7 @@ import ru.practicum.dto.user.UserShortDto;
 import ru.practicum.event.dto.*;
 import ru.practicum.event.model.Event;
 import ru.practicum.dto.event.EventFullDto;
+import ru.practicum.dto.event.EventMetaDto;
 import ru.practicum.dto.event.EventShortDto;
 
 import java.util.List;
@@ -37,6 +38,8 @@ public interface EventMapper {
     @Mapping(target = "publishedOn", ignore = true)
     Event fromNewEventDto(NewEventDto dto);
 
+    EventMetaDto toEventMetaDto(Event event);
+
     List<EventShortDto> toEventsShortDto(List<Event> events);
 
     @Mapping(target = "categoryId", source = "category")
@@ -0,0 +1,36 @@
+package ru.practicum.event.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Денормализованные данные события из соседних сервисов для публичного поиска.
+ * Заполняется асинхронно, см. {@link ru.practicum.event.service.EventViewUpdater}.
+ */
+@Builder
+@Entity
+@Table(name = "event_views", schema = "public")
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventView {
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "initiator_name")
+    private String initiatorName;
+
+    @Column(name = "confirmed_requests", nullable = false)
+    private int confirmedRequests;
+
+    @Column(name = "rating", nullable = false)
+    private double rating;
+
+    @Column(name = "updated_on", nullable = false)
+    private LocalDateTime updatedOn;
+}
@@ -0,0 +1,20 @@
+package ru.practicum.event.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "event-service.enrichment")
+public class EnrichmentProperties {
+    /**
+     * Общий срок на все обращения к соседним сервисам при обогащении страницы событий.
+     * Источники, не ответившие в срок, заменяются значениями по умолчанию.
+     */
+    private Duration deadline = Duration.ofSeconds(1);
+}
@@ -0,0 +1,188 @@
+package ru.practicum.event.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import ru.practicum.cache.RatingCache;
+import ru.practicum.client.RequestFeignClient;
+import ru.practicum.client.UserCache;
+import ru.practicum.dto.event.EventFullDto;
+import ru.practicum.dto.event.EventShortDto;
+import ru.practicum.dto.user.UserShortDto;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Дополняет события данными соседних сервисов: инициаторами (user-service через {@link UserCache}),
+ * числом подтверждённых заявок (request-service) и рейтингом (analyzer).
+ * Все три запроса независимы и выполняются параллельно на виртуальных потоках
+ * с общим сроком, так что задержка страницы определяется самым медленным источником.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventEnricher {
+    private static final String UNKNOWN_USER = "Unknown User";
+
+    private final UserCache userCache;
+    private final RequestFeignClient requestFeignClient;
+    private final RatingCache ratingCache;
+    private final EnrichmentProperties properties;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public void enrichShort(List<EventShortDto> events) {
+        if (events == null || events.isEmpty()) return;
+
+        Enrichment enrichment = fetch(
+                events.stream().map(EventShortDto::getId).filter(Objects::nonNull).toList(),
+                events.stream().map(EventShortDto::getInitiator).filter(Objects::nonNull)
+                        .map(UserShortDto::getId).filter(Objects::nonNull).toList());
+
+        for (EventShortDto event : events) {
+            event.setInitiator(enrichment.initiator(event.getInitiator()));
+            event.setConfirmedRequests(enrichment.confirmedRequests().getOrDefault(event.getId(), 0));
+            event.setRating(enrichment.ratings().getOrDefault(event.getId(), 0.0));
+        }
+    }
+
+    public void enrichFull(List<EventFullDto> events) {
+        if (events == null || events.isEmpty()) return;
+
+        enrichFull(events, prefetch(events.stream().map(EventFullDto::getId).filter(Objects::nonNull).toList()));
+    }
+
+    /**
+     * Дополняет события, используя заявки и рейтинги, запрошенные заранее через {@link #prefetch(List)}.
+     */
+    public void enrichFull(List<EventFullDto> events, Prefetch prefetch) {
+        if (events == null || events.isEmpty()) {
+            prefetch.cancel();
+            return;
+        }
+
+        Enrichment enrichment = fetch(prefetch,
+                events.stream().map(EventFullDto::getInitiator).filter(Objects::nonNull)
+                        .map(UserShortDto::getId).filter(Objects::nonNull).toList());
+
+        for (EventFullDto event : events) {
+            event.setInitiator(enrichment.initiator(event.getInitiator()));
+            event.setConfirmedRequests(enrichment.confirmedRequests().getOrDefault(event.getId(), 0).longValue());
+            event.setRating(enrichment.ratings().getOrDefault(event.getId(), 0.0));
+        }
+    }
+
+    /**
+     * Запускает запросы заявок и рейтингов, которым нужны только id событий, — например,
+     * параллельно с чтением самих событий из базы. Срок отсчитывается с этого момента.
+     */
+    public Prefetch prefetch(List<Long> eventIds) {
+        return new Prefetch(eventIds,
+                submit(eventIds.isEmpty(), () -> requestFeignClient.getRequestStats(eventIds).getConfirmedRequests()),
+                submit(eventIds.isEmpty(), () -> ratingCache.getRatings(eventIds)),
+                System.nanoTime() + properties.getDeadline().toNanos());
+    }
+
+    /**
+     * Данные для read-модели. В отличие от обогащения ответов не подменяет недоступный
+     * или не уложившийся в срок источник пустыми значениями: его карта равна null.
+     */
+    public Enrichment fetchForReadModel(List<Long> eventIds, List<Long> initiatorIds) {
+        return fetch(prefetch(eventIds), initiatorIds, false);
+    }
+
+    private Enrichment fetch(List<Long> eventIds, List<Long> initiatorIds) {
+        return fetch(prefetch(eventIds), initiatorIds);
+    }
+
+    private Enrichment fetch(Prefetch prefetch, List<Long> initiatorIds) {
+        return fetch(prefetch, initiatorIds, true);
+    }
+
+    private Enrichment fetch(Prefetch prefetch, List<Long> initiatorIds, boolean emptyOnFailure) {
+        List<Long> distinctInitiators = initiatorIds.stream().distinct().toList();
+
+        Future<Map<Long, UserShortDto>> users = submit(distinctInitiators.isEmpty(), () ->
+                userCache.getUsers(distinctInitiators));
+
+        Enrichment enrichment = new Enrichment(
+                await(users, prefetch.deadline(), "initiators", emptyOnFailure),
+                await(prefetch.confirmed(), prefetch.deadline(), "confirmed requests", emptyOnFailure),
+                await(prefetch.ratings(), prefetch.deadline(), "ratings", emptyOnFailure));
+
+        log.debug("Enriched {} events", prefetch.eventIds().size());
+        return enrichment;
+    }
+
+    private <T> Future<Map<Long, T>> submit(boolean skip, Supplier<Map<Long, T>> call) {
+        if (skip) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+        return executor.submit(call::get);
+    }
+
+    private <T> Map<Long, T> await(Future<Map<Long, T>> future, long deadline, String source,
+                                   boolean emptyOnFailure) {
+        try {
+            Map<Long, T> result = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return result != null ? result : Map.of();
+        } catch (TimeoutException e) {
+            log.warn("Enrichment with {} exceeded deadline {}", source, properties.getDeadline());
+            future.cancel(true);
+        } catch (ExecutionException e) {
+            log.error("Failed to enrich with {}: {}", source, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+        }
+        return emptyOnFailure ? Map.of() : null;
+    }
+
+    public record Prefetch(List<Long> eventIds,
+                           Future<Map<Long, Integer>> confirmed,
+                           Future<Map<Long, Double>> ratings,
+                           long deadline) {
+
+        /**
+         * Отменяет запросы, если результат уже не нужен, например событие не найдено.
+         */
+        public void cancel() {
+            confirmed.cancel(true);
+            ratings.cancel(true);
+        }
+    }
+
+    /**
+     * Результаты источников; карта равна null, если источник не ответил
+     * (только для {@link #fetchForReadModel}).
+     */
+    public record Enrichment(Map<Long, UserShortDto> users,
+                             Map<Long, Integer> confirmedRequests,
+                             Map<Long, Double> ratings) {
+
+        public boolean complete() {
+            return users != null && confirmedRequests != null && ratings != null;
+        }
+
+        public String initiatorName(Long initiatorId) {
+            UserShortDto user = users.get(initiatorId);
+            return user != null ? user.getName() : UNKNOWN_USER;
+        }
+
+        UserShortDto initiator(UserShortDto initiator) {
+            if (initiator == null) return null;
+            UserShortDto user = users.get(initiator.getId());
+            return user != null ? user : UserShortDto.builder()
+                    .id(initiator.getId())
+                    .name(UNKNOWN_USER)
+                    .build();
+        }
+    }
+}
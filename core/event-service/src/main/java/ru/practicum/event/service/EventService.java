@@ -6,19 +6,29 @@ import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.actions.UserActionPipeline;
+import ru.practicum.category.service.CategoryCache;
+import ru.practicum.client.AttendanceIndex;
+import ru.practicum.client.CompilationFeignClient;
 import ru.practicum.client.RequestFeignClient;
+import ru.practicum.client.UserCache;
 import ru.practicum.client.UserFeignClient;
 import ru.practicum.common.EntityValidator;
 import ru.practicum.controller.RecommendationsClient;
 import ru.practicum.controller.UserActionClient;
+import ru.practicum.dto.event.CategoryDto;
 import ru.practicum.dto.event.EventBatchDto;
 import ru.practicum.dto.event.EventFullDto;
+import ru.practicum.dto.event.EventMetaDto;
 import ru.practicum.dto.event.EventShortDto;
-import ru.practicum.dto.request.RequestStatsDto;
-import ru.practicum.dto.user.UserBatchDto;
-import ru.practicum.dto.user.UserDto;
+import ru.practicum.dto.page.CursorPage;
+import ru.practicum.dto.page.Cursors;
 import ru.practicum.dto.user.UserShortDto;
+import ru.practicum.event.dao.EventCursor;
 import ru.practicum.event.dao.EventRepository;
+import ru.practicum.event.dao.EventWithView;
 import ru.practicum.event.dto.NewEventDto;
 import ru.practicum.event.dto.UpdateEventAdminRequest;
 import ru.practicum.event.dto.UpdateEventUserRequest;
@@ -31,6 +41,7 @@ import ru.practicum.event.dto.request.UserEventsQuery;
 import ru.practicum.event.mapper.EventMapper;
 import ru.practicum.event.model.Event;
 import ru.practicum.event.model.EventState;
+import ru.practicum.event.model.EventView;
 import ru.practicum.exception.*;
 import ru.practicum.stats.proto.ActionTypeProto;
 
@@ -46,84 +57,68 @@ public class EventService {
     private final EventRepository eventRepository;
     private final EventMapper eventMapper;
     private final UserActionClient userActionClient;
+    private final UserActionPipeline userActionPipeline;
     private final RecommendationsClient recommendationsClient;
+    private final EventEnricher eventEnricher;
+    private final EventViewUpdater eventViewUpdater;
+    private final CategoryCache categoryCache;
     private final EntityValidator entityValidator;
     private final UserFeignClient userFeignClient;
+    private final UserCache userCache;
     private final RequestFeignClient requestFeignClient;
+    private final CompilationFeignClient compilationFeignClient;
+    private final AttendanceIndex attendanceIndex;
 
     public List<EventShortDto> findEvents(UserEventsQuery query) {
         List<EventShortDto> dtos = eventMapper.toEventsShortDto(eventRepository.findByInitiatorId(query.userId(),
                 PageRequest.of(query.from() / query.size(), query.size())));
 
         if (dtos != null && !dtos.isEmpty()) {
-            enrichWithInitiators(dtos);
             enrichWithCategories(dtos);
-            enrichWithConfirmedRequests(dtos);
-
-            List<Long> ids = dtos.stream().map(EventShortDto::getId).collect(Collectors.toList());
-            Map<Long, Double> ratings = fetchRatings(ids);
-            dtos.forEach(dto -> dto.setRating(ratings.getOrDefault(dto.getId(), 0.0)));
+            eventEnricher.enrichShort(dtos);
         }
 
         return dtos != null ? dtos : Collections.emptyList();
     }
 
+    public CursorPage<EventShortDto> findEventsPage(UserEventsQuery query) {
+        Long afterId = Cursors.decode(query.cursor(), 1, keys -> Long.parseLong(keys[0]));
+        List<Event> events = eventRepository.findByInitiatorIdAndIdGreaterThanOrderByIdAsc(query.userId(),
+                afterId != null ? afterId : 0L, PageRequest.of(0, query.size() + 1));
+
+        return CursorPage.of(events, query.size(), event -> Cursors.encode(event.getId()))
+                .map(page -> {
+                    List<EventShortDto> dtos = eventMapper.toEventsShortDto(page);
+                    enrichWithCategories(dtos);
+                    eventEnricher.enrichShort(dtos);
+                    return dtos;
+                });
+    }
+
     private void enrichWithCategories(List<EventShortDto> events) {
         if (events == null || events.isEmpty()) return;
 
-        try {
-            List<Long> categoryIds = events.stream()
-                    .map(e -> e.getCategory() != null ? e.getCategory().getId() : null)
-                    .filter(Objects::nonNull)
-                    .distinct()
-                    .collect(Collectors.toList());
-
-            if (categoryIds.isEmpty()) return;
-
-            for (EventShortDto event : events) {
-                if (event.getCategory() != null && event.getCategory().getId() != null) {
-                    event.getCategory().setName("Category " + event.getCategory().getId());
-                }
-            }
-
-            log.debug("Enriched {} events with categories", events.size());
-        } catch (Exception e) {
-            log.error("Failed to enrich with categories", e);
-        }
+        events.forEach(event -> enrichCategory(event.getCategory()));
+        log.debug("Enriched {} events with categories", events.size());
     }
 
     private void enrichWithCategory(EventFullDto event) {
-        if (event == null || event.getCategory() == null || event.getCategory().getId() == null) return;
+        if (event == null) return;
 
-        try {
-            event.getCategory().setName("Category " + event.getCategory().getId());
-        } catch (Exception e) {
-            log.error("Failed to enrich category for event {}: {}", event.getId(), e.getMessage());
-        }
+        enrichCategory(event.getCategory());
     }
 
     private void enrichWithCategoriesForFullDto(List<EventFullDto> events) {
         if (events == null || events.isEmpty()) return;
 
-        try {
-            List<Long> categoryIds = events.stream()
-                    .map(e -> e.getCategory() != null ? e.getCategory().getId() : null)
-                    .filter(Objects::nonNull)
-                    .distinct()
-                    .collect(Collectors.toList());
+        events.forEach(event -> enrichCategory(event.getCategory()));
+        log.debug("Enriched {} events with categories", events.size());
+    }
 
-            if (categoryIds.isEmpty()) return;
+    private void enrichCategory(CategoryDto category) {
+        if (category == null || category.getId() == null) return;
 
-            for (EventFullDto event : events) {
-                if (event.getCategory() != null && event.getCategory().getId() != null) {
-                    event.getCategory().setName("Category " + event.getCategory().getId());
-                }
-            }
-
-            log.debug("Enriched {} events with categories", events.size());
-        } catch (Exception e) {
-            log.error("Failed to enrich with categories", e);
-        }
+        category.setName(categoryCache.getName(category.getId()));
     }
 
     @Transactional
@@ -147,6 +142,7 @@ public class EventService {
         event.setCreatedOn(LocalDateTime.now());
 
         Event savedItem = eventRepository.save(event);
+        eventViewUpdater.markDirty(List.of(savedItem.getId()));
 
         EventFullDto dto = eventMapper.toEventFullDto(savedItem);
         enrichWithInitiator(dto, userId);
@@ -160,12 +156,8 @@ public class EventService {
         EventFullDto dto = eventMapper.toEventFullDto(event);
 
         if (dto != null) {
-            enrichWithInitiator(dto, event.getInitiatorId());
             enrichWithCategory(dto);
-            setConfirmedRequestsForEvents(List.of(dto));
-
-            Map<Long, Double> ratings = fetchRatings(List.of(dto.getId()));
-            dto.setRating(ratings.getOrDefault(dto.getId(), 0.0));
+            eventEnricher.enrichFull(List.of(dto));
         }
         return dto;
     }
@@ -173,31 +165,48 @@ public class EventService {
     public EventBatchDto getEventsByIds(List<Long> eventIds) {
         if (eventIds == null || eventIds.isEmpty()) {
             return EventBatchDto.builder()
-                    .events(new HashMap<>())
+                    .events(new ArrayList<>())
                     .build();
         }
 
-        List<Event> events = eventRepository.findAllById(eventIds);
-        List<EventShortDto> eventDtos = eventMapper.toEventsShortDto(events);
+        Map<Long, EventShortDto> eventMap = toShortDtos(eventRepository.findAllWithViews(eventIds)).stream()
+                .collect(Collectors.toMap(EventShortDto::getId, dto -> dto));
 
-        if (eventDtos != null && !eventDtos.isEmpty()) {
-            enrichWithInitiators(eventDtos);
-            enrichWithCategories(eventDtos);
-            enrichWithConfirmedRequests(eventDtos);
+        return EventBatchDto.builder()
+                .events(eventIds.stream()
+                        .distinct()
+                        .map(eventMap::get)
+                        .filter(Objects::nonNull)
+                        .toList())
+                .build();
+    }
 
-            List<Long> ids = eventDtos.stream().map(EventShortDto::getId).collect(Collectors.toList());
-            Map<Long, Double> ratings = fetchRatings(ids);
-            eventDtos.forEach(dto -> dto.setRating(ratings.getOrDefault(dto.getId(), 0.0)));
+    /**
+     * Собирает DTO из событий и строк read-модели одним локальным запросом;
+     * события, для которых строка ещё не построена, обогащаются напрямую.
+     */
+    private List<EventShortDto> toShortDtos(List<EventWithView> rows) {
+        List<EventShortDto> dtos = new ArrayList<>(rows.size());
+        List<EventShortDto> missing = new ArrayList<>();
+        for (EventWithView row : rows) {
+            EventShortDto dto = eventMapper.toEventShortDto(row.event());
+            EventView view = row.view();
+            if (view != null) {
+                dto.getInitiator().setName(view.getInitiatorName());
+                dto.setConfirmedRequests(view.getConfirmedRequests());
+                dto.setRating(view.getRating());
+            } else {
+                missing.add(dto);
+            }
+            dtos.add(dto);
         }
 
-        Map<Long, EventShortDto> eventMap = eventDtos != null ?
-                eventDtos.stream()
-                        .collect(Collectors.toMap(EventShortDto::getId, dto -> dto)) :
-                new HashMap<>();
-
-        return EventBatchDto.builder()
-                .events(eventMap)
-                .build();
+        enrichWithCategories(dtos);
+        if (!missing.isEmpty()) {
+            eventEnricher.enrichShort(missing);
+            eventViewUpdater.markDirty(missing.stream().map(EventShortDto::getId).toList());
+        }
+        return dtos;
     }
 
     private Event findByPublicId(long eventId) {
@@ -237,6 +246,8 @@ public class EventService {
         }
 
         Event savedEvent = eventRepository.save(event);
+        eventViewUpdater.markDirty(List.of(savedEvent.getId()));
+        notifyEventChangedAfterCommit(savedEvent.getId());
         EventFullDto dto = eventMapper.toEventFullDto(savedEvent);
         enrichWithInitiator(dto, userId);
         enrichWithCategory(dto);
@@ -245,52 +256,56 @@ public class EventService {
     }
 
     public List<EventShortDto> searchPublicEvents(PublicEventFilter filter) {
+        validateRange(filter);
+        return toShortDtos(eventRepository.searchEventsByPublic(filter));
+    }
+
+    public CursorPage<EventShortDto> searchPublicEventsPage(PublicEventFilter filter) {
+        validateRange(filter);
+        if (filter.getSort() != null && filter.getSort() != EventSort.EVENT_DATE) {
+            throw new InvalidRequestException("Постраничный курсор поддерживается только для сортировки EVENT_DATE");
+        }
+
+        return CursorPage.of(eventRepository.searchEventsByPublic(filter), filter.getSize(),
+                        row -> EventCursor.of(row.event()).encode())
+                .map(this::toShortDtos);
+    }
+
+    private void validateRange(PublicEventFilter filter) {
         if (filter.getRangeStart() != null && filter.getRangeEnd() != null) {
             if (filter.getRangeStart().isAfter(filter.getRangeEnd())) {
                 throw new InvalidDateRangeException("Дата начала не может быть позже даты окончания.");
             }
         }
-
-        List<EventShortDto> dtos = eventMapper.toEventsShortDto(eventRepository.searchEventsByPublic(filter));
-
-        if (dtos != null && !dtos.isEmpty()) {
-            enrichWithInitiators(dtos);
-            enrichWithCategories(dtos);
-            enrichWithConfirmedRequests(dtos);
-        } else {
-            dtos = Collections.emptyList();
+        if ((filter.getLat() == null) != (filter.getLon() == null)) {
+            throw new InvalidRequestException("Параметры lat и lon задаются вместе");
         }
-
-        List<Long> eventIds = dtos.stream().map(EventShortDto::getId).collect(Collectors.toList());
-        Map<Long, Double> ratings = fetchRatings(eventIds);
-        for (EventShortDto dto : dtos) {
-            dto.setRating(ratings.getOrDefault(dto.getId(), 0.0));
+        if (filter.getSort() == EventSort.DISTANCE && !filter.hasLocation()) {
+            throw new InvalidRequestException("Для сортировки DISTANCE нужны параметры lat и lon");
         }
-
-        if (filter.getSort() != null && filter.getSort() == EventSort.VIEWS && !dtos.isEmpty()) {
-            dtos.sort(Comparator.comparing(EventShortDto::getRating).reversed());
+        if (filter.getSort() == EventSort.RELEVANCE && (filter.getText() == null || filter.getText().isBlank())) {
+            throw new InvalidRequestException("Для сортировки RELEVANCE нужен параметр text");
         }
-
-        return dtos;
     }
 
     public EventFullDto findPublicEventById(long id, long userId) {
-        Event event = findByPublicId(id);
+        // заявки и рейтинг не зависят от строки события и запрашиваются параллельно с чтением из базы
+        EventEnricher.Prefetch prefetch = eventEnricher.prefetch(List.of(id));
+        Event event;
+        try {
+            event = findByPublicId(id);
+        } catch (RuntimeException e) {
+            prefetch.cancel();
+            throw e;
+        }
         EventFullDto dto = eventMapper.toEventFullDto(event);
 
         if (dto != null) {
-            enrichWithInitiator(dto, event.getInitiatorId());
             enrichWithCategory(dto);
-            setConfirmedRequestsForEvents(List.of(dto));
-
-            try {
-                userActionClient.sendUserAction(userId, id, ActionTypeProto.ACTION_VIEW, Instant.now());
-            } catch (Exception e) {
-                log.warn("Failed to send VIEW action: {}", e.getMessage());
-            }
-
-            Map<Long, Double> ratings = fetchRatings(List.of(dto.getId()));
-            dto.setRating(ratings.getOrDefault(dto.getId(), 0.0));
+            eventEnricher.enrichFull(List.of(dto), prefetch);
+            userActionPipeline.record(userId, id, ActionTypeProto.ACTION_VIEW, Instant.now());
+        } else {
+            prefetch.cancel();
         }
 
         return dto;
@@ -302,17 +317,18 @@ public class EventService {
         return eventMapper.toEventFullDto(event);
     }
 
+    public EventMetaDto getEventMeta(Long eventId) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new NotFoundException("Event with id=" + eventId + " was not found"));
+        return eventMapper.toEventMetaDto(event);
+    }
+
     public List<EventFullDto> searchEventsByAdmin(AdminEventFilter filter) {
         List<EventFullDto> dtos = eventMapper.toEventsFullDto(eventRepository.searchEventsByAdmin(filter));
 
         if (dtos != null && !dtos.isEmpty()) {
-            enrichWithInitiatorsForFullDto(dtos);
             enrichWithCategoriesForFullDto(dtos);
-            setConfirmedRequestsForEvents(dtos);
-
-            List<Long> ids = dtos.stream().map(EventFullDto::getId).collect(Collectors.toList());
-            Map<Long, Double> ratings = fetchRatings(ids);
-            dtos.forEach(dto -> dto.setRating(ratings.getOrDefault(dto.getId(), 0.0)));
+            eventEnricher.enrichFull(dtos);
         } else {
             dtos = Collections.emptyList();
         }
@@ -332,19 +348,15 @@ public class EventService {
         List<EventShortDto> dtos = eventMapper.toEventsShortDto(events);
 
         if (dtos != null && !dtos.isEmpty()) {
-            enrichWithInitiators(dtos);
             enrichWithCategories(dtos);
-            enrichWithConfirmedRequests(dtos);
-
-            Map<Long, Double> ratings = fetchRatings(eventIds);
-            dtos.forEach(dto -> dto.setRating(ratings.getOrDefault(dto.getId(), 0.0)));
+            eventEnricher.enrichShort(dtos);
         }
 
         return dtos != null ? dtos : Collections.emptyList();
     }
 
     public void likeEvent(long userId, long eventId) {
-        boolean visited = requestFeignClient.hasConfirmedRequest(userId, eventId);
+        boolean visited = attendanceIndex.hasAttended(userId, eventId);
         if (!visited) {
             throw new InvalidRequestException("Пользователь не посещал мероприятие " + eventId);
         }
@@ -355,48 +367,6 @@ public class EventService {
         }
     }
 
-    private Map<Long, Double> fetchRatings(List<Long> eventIds) {
-        if (eventIds == null || eventIds.isEmpty()) return Map.of();
-        try {
-            return recommendationsClient.getInteractionsCount(eventIds)
-                    .collect(Collectors.toMap(
-                            r -> r.getEventId(),
-                            r -> r.getScore(),
-                            (a, b) -> a
-                    ));
-        } catch (Exception e) {
-            log.error("Failed to fetch ratings: {}", e.getMessage());
-            return Map.of();
-        }
-    }
-
-    private void setConfirmedRequestsForEvents(List<EventFullDto> dtos) {
-        if (dtos == null || dtos.isEmpty()) return;
-
-        try {
-            List<Long> eventIds = dtos.stream()
-                    .map(EventFullDto::getId)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
-
-            if (eventIds.isEmpty()) return;
-
-            RequestStatsDto stats = requestFeignClient.getRequestStats(eventIds);
-            Map<Long, Integer> confirmedRequestsMap = stats.getConfirmedRequests();
-
-            dtos.forEach(dto -> dto.setConfirmedRequests(
-                    confirmedRequestsMap.getOrDefault(dto.getId(), 0).longValue()));
-
-            log.debug("Enriched {} events with confirmed requests", dtos.size());
-        } catch (FeignException e) {
-            log.error("Feign error when getting confirmed requests: {}", e.getMessage());
-            dtos.forEach(dto -> dto.setConfirmedRequests(0L));
-        } catch (Exception e) {
-            log.error("Failed to enrich with confirmed requests", e);
-            dtos.forEach(dto -> dto.setConfirmedRequests(0L));
-        }
-    }
-
     @Transactional
     public EventFullDto moderateEvent(Long eventId, UpdateEventAdminRequest adminRequest) {
         Event event = entityValidator.ensureAndGet(eventRepository, eventId, "Event");
@@ -425,6 +395,8 @@ public class EventService {
         }
 
         Event savedEvent = eventRepository.save(event);
+        eventViewUpdater.markDirty(List.of(savedEvent.getId()));
+        notifyEventChangedAfterCommit(savedEvent.getId());
         EventFullDto dto = eventMapper.toEventFullDto(savedEvent);
         enrichWithInitiator(dto, event.getInitiatorId());
         enrichWithCategory(dto);
@@ -432,102 +404,37 @@ public class EventService {
         return dto;
     }
 
-    public void ensureUserIsInitiator(Long userId, Long eventId) {
-        Event event = entityValidator.ensureAndGet(eventRepository, eventId, "Событие");
-        if (!event.getInitiatorId().equals(userId)) {
-            throw new ValidationException("Только инициатор может просматривать заявки");
-        }
-    }
-
-    private void enrichWithInitiators(List<EventShortDto> events) {
-        if (events == null || events.isEmpty()) return;
-
-        try {
-            List<Long> initiatorIds = events.stream()
-                    .map(e -> e.getInitiator() != null ? e.getInitiator().getId() : null)
-                    .filter(Objects::nonNull)
-                    .distinct()
-                    .collect(Collectors.toList());
-
-            if (initiatorIds.isEmpty()) return;
-
-            UserBatchDto usersData = userFeignClient.getUsersByIds(initiatorIds);
-            Map<Long, UserShortDto> users = usersData.getUsers();
-
-            for (EventShortDto event : events) {
-                if (event.getInitiator() != null) {
-                    UserShortDto user = users.get(event.getInitiator().getId());
-                    if (user != null) {
-                        event.setInitiator(user);
-                    } else {
-                        event.setInitiator(UserShortDto.builder()
-                                .id(event.getInitiator().getId())
-                                .name("Unknown User")
-                                .build());
-                    }
-                }
+    // request-service кэширует состояние, лимит и модерацию события, compilation-service — собранные
+    // подборки; сбрасываем после коммита
+    private void notifyEventChangedAfterCommit(Long eventId) {
+        Runnable invalidate = () -> {
+            try {
+                requestFeignClient.invalidateEventMeta(List.of(eventId));
+            } catch (Exception e) {
+                log.warn("Failed to invalidate event meta in request-service: {}", e.getMessage());
             }
-
-            log.debug("Enriched {} events with initiators", events.size());
-
-        } catch (FeignException e) {
-            log.error("Feign error when getting users: {}", e.getMessage());
-            for (EventShortDto event : events) {
-                if (event.getInitiator() != null) {
-                    event.setInitiator(UserShortDto.builder()
-                            .id(event.getInitiator().getId())
-                            .name("Unknown User")
-                            .build());
-                }
+            try {
+                compilationFeignClient.invalidateByEvents(List.of(eventId));
+            } catch (Exception e) {
+                log.warn("Failed to invalidate compilations in compilation-service: {}", e.getMessage());
             }
-        } catch (Exception e) {
-            log.error("Failed to enrich with initiators", e);
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate.run();
+            return;
         }
-    }
-
-    private void enrichWithInitiatorsForFullDto(List<EventFullDto> events) {
-        if (events == null || events.isEmpty()) return;
-
-        try {
-            List<Long> initiatorIds = events.stream()
-                    .map(e -> e.getInitiator() != null ? e.getInitiator().getId() : null)
-                    .filter(Objects::nonNull)
-                    .distinct()
-                    .collect(Collectors.toList());
-
-            if (initiatorIds.isEmpty()) return;
-
-            UserBatchDto usersData = userFeignClient.getUsersByIds(initiatorIds);
-            Map<Long, UserShortDto> users = usersData.getUsers();
-
-            for (EventFullDto event : events) {
-                if (event.getInitiator() != null) {
-                    UserShortDto user = users.get(event.getInitiator().getId());
-                    if (user != null) {
-                        event.setInitiator(user);
-                    } else {
-                        event.setInitiator(UserShortDto.builder()
-                                .id(event.getInitiator().getId())
-                                .name("Unknown User")
-                                .build());
-                    }
-                }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate.run();
             }
+        });
+    }
 
-            log.debug("Enriched {} events with initiators", events.size());
-
-        } catch (FeignException e) {
-            log.error("Feign error when getting users: {}", e.getMessage());
-            for (EventFullDto event : events) {
-                if (event.getInitiator() != null) {
-                    event.setInitiator(UserShortDto.builder()
-                            .id(event.getInitiator().getId())
-                            .name("Unknown User")
-                            .build());
-                }
-            }
-        } catch (Exception e) {
-            log.error("Failed to enrich with initiators", e);
+    public void ensureUserIsInitiator(Long userId, Long eventId) {
+        Event event = entityValidator.ensureAndGet(eventRepository, eventId, "Событие");
+        if (!event.getInitiatorId().equals(userId)) {
+            throw new ValidationException("Только инициатор может просматривать заявки");
         }
     }
 
@@ -535,14 +442,11 @@ public class EventService {
         if (event == null || initiatorId == null) return;
 
         try {
-            UserDto user = userFeignClient.getUserById(initiatorId);
-            event.setInitiator(UserShortDto.builder()
-                    .id(user.getId())
-                    .name(user.getName())
-                    .build());
-        } catch (FeignException.NotFound e) {
-            log.error("User not found: {}", initiatorId);
-            event.setInitiator(UserShortDto.builder()
+            UserShortDto user = userCache.getUsers(List.of(initiatorId)).get(initiatorId);
+            if (user == null) {
+                log.error("User not found: {}", initiatorId);
+            }
+            event.setInitiator(user != null ? user : UserShortDto.builder()
                     .id(initiatorId)
                     .name("Unknown User")
                     .build());
@@ -555,34 +459,4 @@ public class EventService {
                     .build());
         }
     }
-
-    private void enrichWithConfirmedRequests(List<EventShortDto> events) {
-        if (events == null || events.isEmpty()) return;
-
-        try {
-            List<Long> eventIds = events.stream()
-                    .map(EventShortDto::getId)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
-
-            if (eventIds.isEmpty()) return;
-
-            RequestStatsDto stats = requestFeignClient.getRequestStats(eventIds);
-            Map<Long, Integer> confirmedRequests = stats.getConfirmedRequests();
-
-            for (EventShortDto event : events) {
-                Integer count = confirmedRequests.getOrDefault(event.getId(), 0);
-                event.setConfirmedRequests(count);
-            }
-
-            log.debug("Enriched {} events with confirmed requests", events.size());
-
-        } catch (FeignException e) {
-            log.error("Feign error when getting confirmed requests: {}", e.getMessage());
-            events.forEach(event -> event.setConfirmedRequests(0));
-        } catch (Exception ex) {
-            log.error("Failed to enrich with confirmed requests", ex);
-            events.forEach(event -> event.setConfirmedRequests(0));
-        }
-    }
 }
\ No newline at end of file
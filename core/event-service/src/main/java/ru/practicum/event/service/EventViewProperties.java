@@ -0,0 +1,31 @@
+package ru.practicum.event.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "event-service.read-model")
+public class EventViewProperties {
+    /**
+     * Как часто перестраиваются строки событий, помеченных изменёнными.
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    private int batchSize = 500;
+
+    /**
+     * Сколько пачек перестраивается за один запуск, чтобы один запуск не занимал поток надолго.
+     */
+    private int maxBatchesPerFlush = 10;
+
+    /**
+     * Как часто предстоящие опубликованные события помечаются изменёнными: рейтинг analyzer меняется без уведомлений.
+     */
+    private Duration fullRefreshInterval = Duration.ofMinutes(5);
+}
@@ -0,0 +1,159 @@
+package ru.practicum.event.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.event.dao.EventRepository;
+import ru.practicum.event.dao.EventViewRepository;
+import ru.practicum.event.dto.UsersChangedEvent;
+import ru.practicum.event.model.Event;
+import ru.practicum.event.model.EventState;
+import ru.practicum.event.model.EventView;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Поддерживает таблицу event_views. Изменения только помечают события,
+ * а фоновая задача пачками перестраивает их строки через {@link EventEnricher}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventViewUpdater {
+
+    private final EventRepository eventRepository;
+    private final EventViewRepository eventViewRepository;
+    private final EventEnricher eventEnricher;
+    private final EventViewProperties properties;
+
+    public static final String SCHEDULER = "eventViewScheduler";
+
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Помечает события для перестроения; внутри транзакции — после её коммита.
+     */
+    public void markDirty(Collection<Long> eventIds) {
+        if (eventIds == null || eventIds.isEmpty()) return;
+
+        List<Long> ids = List.copyOf(eventIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dirty.addAll(ids);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dirty.addAll(ids);
+            }
+        });
+    }
+
+    @EventListener
+    public void onUsersChanged(UsersChangedEvent event) {
+        markDirty(eventRepository.findIdsByInitiatorIdIn(event.userIds()));
+    }
+
+    /**
+     * Рейтинг analyzer меняется без уведомлений, поэтому строки предстоящих опубликованных
+     * событий периодически перестраиваются. Остальные события в поиск не попадают
+     * или меняются только вместе с уведомлением об изменении.
+     */
+    @Scheduled(fixedDelayString = "${event-service.read-model.full-refresh-interval:PT5M}",
+            scheduler = EventViewUpdater.SCHEDULER)
+    public void markUpcomingDirty() {
+        LocalDateTime now = LocalDateTime.now();
+        long afterId = 0;
+        List<Long> page;
+        do {
+            page = eventRepository.findIdsByStateAndEventDateAfter(EventState.PUBLISHED, now, afterId,
+                    PageRequest.of(0, properties.getBatchSize()));
+            dirty.addAll(page);
+            if (!page.isEmpty()) {
+                afterId = page.getLast();
+            }
+        } while (page.size() == properties.getBatchSize());
+    }
+
+    /**
+     * Перестраивает не больше {@code max-batches-per-flush} пачек за запуск, остальное
+     * остаётся на следующий. Если какой-то источник не ответил, события пачки остаются
+     * помеченными, а запуск прекращается.
+     */
+    @Scheduled(fixedDelayString = "${event-service.read-model.flush-interval:PT1S}",
+            scheduler = EventViewUpdater.SCHEDULER)
+    public void flush() {
+        for (int i = 0; i < properties.getMaxBatchesPerFlush() && !dirty.isEmpty(); i++) {
+            List<Long> batch = new ArrayList<>(properties.getBatchSize());
+            Iterator<Long> iterator = dirty.iterator();
+            while (iterator.hasNext() && batch.size() < properties.getBatchSize()) {
+                batch.add(iterator.next());
+                iterator.remove();
+            }
+            boolean complete;
+            try {
+                complete = rebuild(batch);
+            } catch (Exception e) {
+                log.error("Failed to rebuild event views for {} events, will retry", batch.size(), e);
+                complete = false;
+            }
+            if (!complete) {
+                dirty.addAll(batch);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Обновляет строки событий. Колонки источника, который не ответил, сохраняют прежние
+     * значения; событие без строки в этом случае не записывается вовсе.
+     *
+     * @return все ли источники ответили
+     */
+    private boolean rebuild(List<Long> eventIds) {
+        List<Event> events = eventRepository.findAllById(eventIds);
+        Map<Long, EventView> existing = eventViewRepository.findAllById(eventIds).stream()
+                .collect(Collectors.toMap(EventView::getEventId, Function.identity()));
+
+        EventEnricher.Enrichment enrichment = eventEnricher.fetchForReadModel(
+                events.stream().map(Event::getId).toList(),
+                events.stream().map(Event::getInitiatorId).filter(Objects::nonNull).toList());
+
+        LocalDateTime now = LocalDateTime.now();
+        List<EventView> views = new ArrayList<>(events.size());
+        for (Event event : events) {
+            EventView view = existing.get(event.getId());
+            if (view == null) {
+                if (!enrichment.complete()) {
+                    continue;
+                }
+                view = EventView.builder().eventId(event.getId()).build();
+            }
+            if (enrichment.users() != null) {
+                view.setInitiatorName(event.getInitiatorId() != null
+                        ? enrichment.initiatorName(event.getInitiatorId())
+                        : null);
+            }
+            if (enrichment.confirmedRequests() != null) {
+                view.setConfirmedRequests(enrichment.confirmedRequests().getOrDefault(event.getId(), 0));
+            }
+            if (enrichment.ratings() != null) {
+                view.setRating(enrichment.ratings().getOrDefault(event.getId(), 0.0));
+            }
+            view.setUpdatedOn(now);
+            views.add(view);
+        }
+        eventViewRepository.saveAll(views);
+        log.debug("Rebuilt {} event views, all sources answered: {}", views.size(), enrichment.complete());
+        return enrichment.complete();
+    }
+}
@@ -1,9 +1,16 @@
+DROP TABLE IF EXISTS hit_rollups CASCADE;
+DROP TABLE IF EXISTS event_views CASCADE;
+DROP TABLE IF EXISTS comment_counters CASCADE;
 DROP TABLE IF EXISTS comments CASCADE;
 DROP TABLE IF EXISTS events CASCADE;
 DROP TABLE IF EXISTS categories CASCADE;
 DROP TYPE IF EXISTS event_state CASCADE;
 DROP TYPE IF EXISTS request_status CASCADE;
 
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS cube;
+CREATE EXTENSION IF NOT EXISTS earthdistance;
+
 -- Типы ENUM
 CREATE TYPE event_state AS ENUM ('PENDING', 'PUBLISHED', 'CANCELED');
 CREATE TYPE request_status AS ENUM ('PENDING', 'CONFIRMED', 'REJECTED', 'CANCELED');
@@ -35,6 +42,26 @@ CREATE TABLE IF NOT EXISTS events (
     CONSTRAINT fk_event_to_category FOREIGN KEY(category_id) REFERENCES categories(id)
 );
 
+-- Индексы повторяют предикаты EventRepositoryImpl и производных запросов EventRepository;
+-- покрытие проверяется скриптом db/plan-check.sql
+-- Админский поиск (states + диапазон дат) и keyset-пагинация по (event_date, id)
+CREATE INDEX IF NOT EXISTS idx_events_state_event_date ON events (state, event_date, id);
+-- findByInitiatorId, keyset по id, админский фильтр users
+CREATE INDEX IF NOT EXISTS idx_events_initiator_id ON events (initiator_id, id);
+CREATE INDEX IF NOT EXISTS idx_events_initiator_event_date ON events (initiator_id, event_date);
+-- countByCategoryId, админский фильтр categories, внешний ключ на categories
+CREATE INDEX IF NOT EXISTS idx_events_category_event_date ON events (category_id, event_date);
+-- Публичный поиск видит только опубликованные события
+CREATE INDEX IF NOT EXISTS idx_events_published_event_date ON events (event_date, id) WHERE state = 'PUBLISHED';
+CREATE INDEX IF NOT EXISTS idx_events_published_category ON events (category_id, event_date) WHERE state = 'PUBLISHED';
+
+-- Триграммные индексы для поиска подстроки: lower(...) LIKE '%text%'
+CREATE INDEX IF NOT EXISTS idx_events_annotation_trgm ON events USING GIN (lower(annotation) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_events_description_trgm ON events USING GIN (lower(description) gin_trgm_ops);
+
+-- Поиск «рядом со мной»: earth_box(...) @> ll_to_earth(lat, lon) идёт по GiST-индексу
+CREATE INDEX IF NOT EXISTS idx_events_published_location ON events USING GIST (ll_to_earth(lat, lon)) WHERE state = 'PUBLISHED';
+
 -- Таблица comments
 CREATE TABLE IF NOT EXISTS comments (
     id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
@@ -45,4 +72,42 @@ CREATE TABLE IF NOT EXISTS comments (
     updated_on TIMESTAMP,
     is_deleted BOOLEAN DEFAULT FALSE,
     CONSTRAINT fk_comment_to_event FOREIGN KEY(event_id) REFERENCES events(id) ON DELETE CASCADE
-);
\ No newline at end of file
+);
+
+-- Публичный список комментариев события: только неудалённые, новые сначала
+CREATE INDEX IF NOT EXISTS idx_comments_event_created ON comments (event_id, created_on DESC, id DESC) WHERE is_deleted = FALSE;
+-- Админский поиск с includeDeleted и по автору
+CREATE INDEX IF NOT EXISTS idx_comments_event_id ON comments (event_id);
+CREATE INDEX IF NOT EXISTS idx_comments_author_id ON comments (author_id, created_on);
+
+-- Число неудалённых комментариев события, обновляется инкрементально
+CREATE TABLE IF NOT EXISTS comment_counters (
+    event_id BIGINT PRIMARY KEY,
+    comments BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT fk_comment_counter_to_event FOREIGN KEY(event_id) REFERENCES events(id) ON DELETE CASCADE
+);
+
+-- Read-модель событий для публичного поиска: данные соседних сервисов, обновляются асинхронно
+CREATE TABLE IF NOT EXISTS event_views (
+    event_id BIGINT PRIMARY KEY,
+    initiator_name VARCHAR(254),
+    confirmed_requests INTEGER NOT NULL DEFAULT 0,
+    rating DOUBLE PRECISION NOT NULL DEFAULT 0,
+    updated_on TIMESTAMP NOT NULL,
+    CONSTRAINT fk_event_view_to_event FOREIGN KEY(event_id) REFERENCES events(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_event_views_rating ON event_views (rating DESC, event_id);
+
+-- Почасовые агрегаты хитов StatsClient, общие для всех экземпляров сервиса.
+-- ips — регистры HyperLogLog (4096 байт), объединяются побайтовым максимумом
+CREATE TABLE IF NOT EXISTS hit_rollups (
+    app VARCHAR(255) NOT NULL,
+    uri VARCHAR(2048) NOT NULL,
+    hour TIMESTAMP NOT NULL,
+    hits BIGINT NOT NULL,
+    ips BYTEA NOT NULL,
+    CONSTRAINT pk_hit_rollups PRIMARY KEY (app, uri, hour)
+);
+
+CREATE INDEX IF NOT EXISTS idx_hit_rollups_hour ON hit_rollups (hour);
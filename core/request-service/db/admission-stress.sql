@@ -0,0 +1,45 @@
+-- Нагрузочная проверка допуска заявок: тысячи конкурентных регистраций на одно событие
+-- не должны превысить лимит участников.
+--
+-- Запуск на отдельной базе после schema.sql (нужен pgbench 14+ ради \aset):
+--   createdb ewm_admission
+--   psql -d ewm_admission -f src/main/resources/schema.sql
+--   pgbench -n -c 200 -j 8 -t 25 -f db/admission-stress.sql ewm_admission
+--   psql -d ewm_admission -c "SELECT confirmed, (SELECT count(*) FROM requests WHERE status = 'CONFIRMED') AS requests FROM event_participation WHERE event_id = 1"
+--
+-- Ожидается confirmed = requests = 100 при 5000 попытках. Строки счётчика перед запуском нет:
+-- первые клиенты одновременно создают её так же, как сервис на холодном событии.
+--
+-- Транзакция выполняет те же запросы и в том же порядке, что RequestServiceImpl.createRequest
+-- для события без модерации с лимитом 100: проверка существующей заявки,
+-- ParticipantAdmission.tryAdmit (tryAdmitOne, при неудаче createIfAbsent и повторный
+-- tryAdmitOne) и отдельный INSERT заявки. К UPDATE добавлен только RETURNING, чтобы pgbench
+-- узнал число изменённых строк; блокировки от этого не меняются. Отказ сервиса
+-- (ConflictException) здесь — ROLLBACK.
+
+\set requester random(1, 1000000000)
+\set admitted 0
+BEGIN;
+SELECT count(*) AS existing FROM requests WHERE event_id = 1 AND requester_id = :requester \gset
+\if :existing = 0
+UPDATE event_participation
+SET confirmed = confirmed + 1, participant_limit = 100
+WHERE event_id = 1 AND (100 = 0 OR confirmed < 100)
+RETURNING 1 AS admitted \aset
+\if :admitted = 0
+INSERT INTO event_participation (event_id, participant_limit, confirmed)
+SELECT 1, 100, count(*) FROM requests WHERE event_id = 1 AND status = 'CONFIRMED'
+ON CONFLICT (event_id) DO NOTHING;
+UPDATE event_participation
+SET confirmed = confirmed + 1, participant_limit = 100
+WHERE event_id = 1 AND (100 = 0 OR confirmed < 100)
+RETURNING 1 AS admitted \aset
+\endif
+\endif
+\if :admitted = 1
+INSERT INTO requests (event_id, requester_id, created, status)
+VALUES (1, :requester, now(), 'CONFIRMED');
+COMMIT;
+\else
+ROLLBACK;
+\endif
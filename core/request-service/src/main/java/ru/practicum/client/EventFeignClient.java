@@ -3,7 +3,12 @@ package ru.practicum.client;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import ru.practicum.dto.event.EventFullDto;
+import ru.practicum.dto.event.EventMetaDto;
+
+import java.util.List;
 
 @FeignClient(
         name = "event-service",
@@ -14,4 +19,10 @@ public interface EventFeignClient {
 
     @GetMapping("/events/{eventId}/internal")
     EventFullDto getEventById(@PathVariable Long eventId);
+
+    @GetMapping("/events/{eventId}/meta")
+    EventMetaDto getEventMeta(@PathVariable Long eventId);
+
+    @PostMapping("/events/views/invalidate")
+    void invalidateEventViews(@RequestBody List<Long> eventIds);
 }
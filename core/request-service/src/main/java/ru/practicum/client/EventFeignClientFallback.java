@@ -3,8 +3,11 @@ package ru.practicum.client;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import ru.practicum.dto.event.EventFullDto;
+import ru.practicum.dto.event.EventMetaDto;
 import ru.practicum.exception.NotFoundException;
 
+import java.util.List;
+
 @Component
 @Slf4j
 public class EventFeignClientFallback implements EventFeignClient {
@@ -14,4 +17,15 @@ public class EventFeignClientFallback implements EventFeignClient {
         log.error("Event Service unavailable for event: {}", eventId);
         throw new NotFoundException("Event Service is temporarily unavailable");
     }
+
+    @Override
+    public EventMetaDto getEventMeta(Long eventId) {
+        log.error("Event Service unavailable for event meta: {}", eventId);
+        throw new NotFoundException("Event Service is temporarily unavailable");
+    }
+
+    @Override
+    public void invalidateEventViews(List<Long> eventIds) {
+        log.warn("Event Service unavailable, search views of events {} stay stale until refresh", eventIds);
+    }
 }
@@ -0,0 +1,46 @@
+package ru.practicum.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import feign.FeignException;
+import org.springframework.stereotype.Component;
+import ru.practicum.dto.event.EventMetaDto;
+import ru.practicum.exception.NotFoundException;
+
+import java.util.Collection;
+
+/**
+ * Кэш полей события, нужных для проверки заявок: инициатор, состояние, лимит и модерация.
+ * event-service сбрасывает записи после изменения события, TTL ограничивает устаревание,
+ * если сброс не дошёл.
+ */
+@Component
+public class EventMetaCache {
+
+    private final EventFeignClient eventFeignClient;
+    private final Cache<Long, EventMetaDto> events;
+
+    public EventMetaCache(EventFeignClient eventFeignClient, LookupCacheProperties properties) {
+        this.eventFeignClient = eventFeignClient;
+        this.events = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getEventTtl())
+                .build();
+    }
+
+    public EventMetaDto get(Long eventId) {
+        return events.get(eventId, this::load);
+    }
+
+    public void invalidate(Collection<Long> eventIds) {
+        events.invalidateAll(eventIds);
+    }
+
+    private EventMetaDto load(Long eventId) {
+        try {
+            return eventFeignClient.getEventMeta(eventId);
+        } catch (FeignException.NotFound e) {
+            throw new NotFoundException("Event not found: " + eventId);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package ru.practicum.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "request-service.lookup-cache")
+public class LookupCacheProperties {
+    /**
+     * Сколько хранится подтверждение, что пользователь существует; удаление пользователя
+     * становится видно не позже этого срока.
+     */
+    private Duration userTtl = Duration.ofMinutes(10);
+
+    /**
+     * Сколько хранятся состояние, лимит и модерация события, если event-service
+     * не сбросил их раньше через {@code /requests/cache/events/invalidate}.
+     */
+    private Duration eventTtl = Duration.ofSeconds(30);
+
+    private long maxSize = 10_000;
+}
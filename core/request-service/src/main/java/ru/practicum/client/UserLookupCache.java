@@ -0,0 +1,45 @@
+package ru.practicum.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import feign.FeignException;
+import org.springframework.stereotype.Component;
+import ru.practicum.exception.NotFoundException;
+
+import java.util.Collection;
+
+/**
+ * Кэш существования пользователей для проверок в request-service. Хранятся только найденные
+ * пользователи: новый пользователь виден сразу, удалённый — не позже TTL или сброса.
+ */
+@Component
+public class UserLookupCache {
+
+    private final UserFeignClient userFeignClient;
+    private final Cache<Long, Boolean> existing;
+
+    public UserLookupCache(UserFeignClient userFeignClient, LookupCacheProperties properties) {
+        this.userFeignClient = userFeignClient;
+        this.existing = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getUserTtl())
+                .build();
+    }
+
+    public void ensureExists(Long userId) {
+        existing.get(userId, this::load);
+    }
+
+    public void invalidate(Collection<Long> userIds) {
+        existing.invalidateAll(userIds);
+    }
+
+    private Boolean load(Long userId) {
+        try {
+            userFeignClient.getUserById(userId);
+        } catch (FeignException.NotFound e) {
+            throw new NotFoundException("User not found: " + userId);
+        }
+        return Boolean.TRUE;
+    }
+}
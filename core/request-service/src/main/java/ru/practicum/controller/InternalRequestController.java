@@ -1,7 +1,11 @@
 package ru.practicum.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.client.EventMetaCache;
+import ru.practicum.client.UserLookupCache;
+import ru.practicum.dto.request.EventAttendanceDto;
 import ru.practicum.dto.request.RequestStatsDto;
 import ru.practicum.service.RequestServiceImpl;
 
@@ -13,16 +17,35 @@ import java.util.List;
 public class InternalRequestController {
 
     private final RequestServiceImpl service;
+    private final EventMetaCache eventMetaCache;
+    private final UserLookupCache userLookupCache;
 
     @PostMapping("/stats")
     public RequestStatsDto getRequestStats(@RequestBody List<Long> eventIds) {
         return service.getRequestStatsByEvents(eventIds);
     }
 
+    @PostMapping("/attendance")
+    public EventAttendanceDto getAttendance(@RequestBody List<Long> eventIds) {
+        return service.getAttendance(eventIds);
+    }
+
     @GetMapping("/confirmed")
     public boolean hasConfirmedRequest(
             @RequestParam long userId,
             @RequestParam long eventId) {
         return service.hasConfirmedRequest(userId, eventId);
     }
+
+    @PostMapping("/cache/events/invalidate")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public void invalidateEventMeta(@RequestBody List<Long> eventIds) {
+        eventMetaCache.invalidate(eventIds);
+    }
+
+    @PostMapping("/cache/users/invalidate")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public void invalidateUsers(@RequestBody List<Long> userIds) {
+        userLookupCache.invalidate(userIds);
+    }
 }
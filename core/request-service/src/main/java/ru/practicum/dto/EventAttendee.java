@@ -7,7 +7,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class ConfirmedRequestCount {
+public class EventAttendee {
     private Long eventId;
-    private Long count;
-}
\ No newline at end of file
+    private Long requesterId;
+}
@@ -0,0 +1,29 @@
+package ru.practicum.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Счётчик подтверждённых заявок события. Меняется только условными атомарными UPDATE
+ * в {@link ru.practicum.repository.EventParticipationRepository}, поэтому лимит участников
+ * не превышается при конкурентных заявках.
+ */
+@Entity
+@Table(name = "event_participation", schema = "public")
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventParticipation {
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "participant_limit", nullable = false)
+    private int participantLimit;
+
+    @Column(nullable = false)
+    private int confirmed;
+}
@@ -0,0 +1,42 @@
+package ru.practicum.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ru.practicum.model.EventParticipation;
+
+@Repository
+public interface EventParticipationRepository extends JpaRepository<EventParticipation, Long> {
+
+    /**
+     * Занимает одно место, если лимит не исчерпан. Возвращает 0, если мест нет или строки счётчика ещё нет.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE event_participation
+            SET confirmed = confirmed + 1, participant_limit = :limit
+            WHERE event_id = :eventId AND (:limit = 0 OR confirmed < :limit)
+            """, nativeQuery = true)
+    int tryAdmitOne(@Param("eventId") Long eventId, @Param("limit") int limit);
+
+    /**
+     * Создаёт строку счётчика по уже подтверждённым заявкам; если строка есть, ничего не делает.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO event_participation (event_id, participant_limit, confirmed)
+            SELECT :eventId, :limit, count(*) FROM requests WHERE event_id = :eventId AND status = 'CONFIRMED'
+            ON CONFLICT (event_id) DO NOTHING
+            """, nativeQuery = true)
+    void createIfAbsent(@Param("eventId") Long eventId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = """
+            UPDATE event_participation
+            SET confirmed = confirmed + :count, participant_limit = :limit
+            WHERE event_id = :eventId
+            """, nativeQuery = true)
+    void addConfirmed(@Param("eventId") Long eventId, @Param("limit") int limit, @Param("count") int count);
+}
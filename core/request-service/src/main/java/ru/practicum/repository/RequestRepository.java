@@ -4,7 +4,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import ru.practicum.dto.ConfirmedRequestCount;
+import ru.practicum.dto.EventAttendee;
 import ru.practicum.model.Request;
 import ru.practicum.model.RequestStatus;
 
@@ -26,20 +26,52 @@ public interface RequestRepository extends JpaRepository<Request, Long> {
 
     List<Request> findByEventIdAndStatus(Long eventId, RequestStatus status);
 
-    long countByEventIdAndStatus(Long eventId, RequestStatus status);
-
     @Query("SELECT COUNT(r) FROM Request r WHERE r.eventId = :eventId AND r.status = 'CONFIRMED'")
     long countConfirmedRequestsByEventId(@Param("eventId") Long eventId);
 
+    boolean existsByEventIdAndIdInAndStatusNot(Long eventId, List<Long> requestIds, RequestStatus status);
+
+    /**
+     * Подтверждает самые ранние ожидающие заявки из списка в пределах свободных мест.
+     * Строка счётчика события блокируется, поэтому свободные места считаются атомарно.
+     */
+    @Query(value = """
+            WITH slots AS (
+                SELECT CASE WHEN :limit = 0 THEN 2147483647 ELSE GREATEST(0, :limit - p.confirmed) END AS free
+                FROM event_participation p
+                WHERE p.event_id = :eventId
+                FOR UPDATE
+            ), earliest AS (
+                SELECT r.id, row_number() OVER (ORDER BY r.created, r.id) AS rn
+                FROM requests r
+                WHERE r.event_id = :eventId AND r.id IN (:requestIds) AND r.status = 'PENDING'
+            )
+            UPDATE requests r
+            SET status = 'CONFIRMED'
+            FROM earliest e, slots s
+            WHERE r.id = e.id AND e.rn <= s.free AND r.status = 'PENDING'
+            RETURNING r.*
+            """, nativeQuery = true)
+    List<Request> confirmEarliestPending(@Param("eventId") Long eventId,
+                                         @Param("requestIds") List<Long> requestIds,
+                                         @Param("limit") int limit);
+
+    @Query(value = """
+            UPDATE requests
+            SET status = 'REJECTED'
+            WHERE event_id = :eventId AND id IN (:requestIds) AND status = 'PENDING'
+            RETURNING *
+            """, nativeQuery = true)
+    List<Request> rejectPending(@Param("eventId") Long eventId, @Param("requestIds") List<Long> requestIds);
+
     @Query("""
-            SELECT new ru.practicum.dto.ConfirmedRequestCount(r.eventId, COUNT(r))
+            SELECT new ru.practicum.dto.EventAttendee(r.eventId, r.requesterId)
             FROM Request r
-            WHERE r.status = :status
+            WHERE r.status = ru.practicum.model.RequestStatus.CONFIRMED
                 AND r.eventId IN :eventIds
-            GROUP BY r.eventId
+            ORDER BY r.eventId, r.requesterId
             """)
-    List<ConfirmedRequestCount> countConfirmedRequestsForEvents(@Param("eventIds") List<Long> eventIds,
-                                                                @Param("status") RequestStatus status);
+    List<EventAttendee> findAttendees(@Param("eventIds") List<Long> eventIds);
 
     void deleteByEventId(Long eventId);
 
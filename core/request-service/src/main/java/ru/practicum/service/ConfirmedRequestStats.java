@@ -0,0 +1,58 @@
+package ru.practicum.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.model.EventParticipation;
+import ru.practicum.repository.EventParticipationRepository;
+
+import java.util.*;
+
+/**
+ * Число подтверждённых заявок по событиям из счётчиков {@code event_participation}
+ * с коротким кэшем в памяти. Стоимость запроса зависит только от числа запрошенных событий.
+ */
+@Component
+public class ConfirmedRequestStats {
+
+    private final EventParticipationRepository participationRepository;
+    private final Cache<Long, Integer> cache;
+
+    public ConfirmedRequestStats(EventParticipationRepository participationRepository,
+                                 RequestStatsProperties properties) {
+        this.participationRepository = participationRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+    }
+
+    public Map<Long, Integer> getConfirmed(Collection<Long> eventIds) {
+        return cache.getAll(new HashSet<>(eventIds), this::load);
+    }
+
+    public void evictAfterCommit(Long eventId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(eventId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(eventId);
+            }
+        });
+    }
+
+    // у событий без строки счётчика подтверждённых заявок нет
+    private Map<Long, Integer> load(Set<? extends Long> eventIds) {
+        Map<Long, Integer> confirmed = new HashMap<>();
+        eventIds.forEach(id -> confirmed.put(id, 0));
+        for (EventParticipation participation : participationRepository.findAllById(new ArrayList<>(eventIds))) {
+            confirmed.put(participation.getEventId(), participation.getConfirmed());
+        }
+        return confirmed;
+    }
+}
@@ -0,0 +1,91 @@
+package ru.practicum.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.client.EventFeignClient;
+import ru.practicum.model.Request;
+import ru.practicum.repository.EventParticipationRepository;
+import ru.practicum.repository.RequestRepository;
+
+import java.util.List;
+
+/**
+ * Допуск заявок в пределах лимита участников. Место занимается условным UPDATE счётчика события
+ * в транзакции вызывающего, так что при откате заявки откатывается и счётчик, а блокировка
+ * строки держится только до коммита. Лимит 0 означает отсутствие ограничения.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class ParticipantAdmission {
+
+    private final EventParticipationRepository participationRepository;
+    private final RequestRepository requestRepository;
+    private final ConfirmedRequestStats confirmedRequestStats;
+    private final EventFeignClient eventFeignClient;
+
+    /**
+     * Занимает одно место; false, если лимит исчерпан.
+     */
+    public boolean tryAdmit(long eventId, int limit) {
+        boolean admitted = participationRepository.tryAdmitOne(eventId, limit) == 1;
+        if (!admitted) {
+            // строки могло ещё не быть — создаём и пробуем ещё раз
+            participationRepository.createIfAbsent(eventId, limit);
+            admitted = participationRepository.tryAdmitOne(eventId, limit) == 1;
+        }
+        if (admitted) {
+            confirmedRequestStats.evictAfterCommit(eventId);
+            invalidateEventViewAfterCommit(eventId);
+        }
+        return admitted;
+    }
+
+    /**
+     * Подтверждает самые ранние ожидающие заявки из списка, сколько позволяет лимит,
+     * и возвращает подтверждённые. Строка счётчика блокируется до конца транзакции.
+     */
+    public List<Request> confirmEarliest(long eventId, int limit, List<Long> requestIds) {
+        participationRepository.createIfAbsent(eventId, limit);
+        List<Request> confirmed = requestRepository.confirmEarliestPending(eventId, requestIds, limit);
+        if (!confirmed.isEmpty()) {
+            participationRepository.addConfirmed(eventId, limit, confirmed.size());
+            confirmedRequestStats.evictAfterCommit(eventId);
+            invalidateEventViewAfterCommit(eventId);
+        }
+        return confirmed;
+    }
+
+    /**
+     * Проверка без блокировки — для заявок, которые ещё ждут модерации и места не занимают.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean isFull(long eventId, int limit) {
+        if (limit == 0) {
+            return false;
+        }
+        return participationRepository.findById(eventId)
+                .map(p -> p.getConfirmed() >= limit)
+                .orElse(false);
+    }
+
+    // поиск event-service отбирает свободные события по своей копии счётчика; просим её перестроить
+    private void invalidateEventViewAfterCommit(long eventId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    eventFeignClient.invalidateEventViews(List.of(eventId));
+                } catch (Exception e) {
+                    log.warn("Failed to invalidate event view in event-service: {}", e.getMessage());
+                }
+            }
+        });
+    }
+}
@@ -1,16 +1,16 @@
 package ru.practicum.service;
 
-import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import ru.practicum.client.EventFeignClient;
-import ru.practicum.client.UserFeignClient;
+import ru.practicum.client.EventMetaCache;
+import ru.practicum.client.UserLookupCache;
 import ru.practicum.common.EntityValidator;
 import ru.practicum.controller.UserActionClient;
-import ru.practicum.dto.ConfirmedRequestCount;
-import ru.practicum.dto.event.EventFullDto;
+import ru.practicum.dto.EventAttendee;
+import ru.practicum.dto.event.EventMetaDto;
+import ru.practicum.dto.request.EventAttendanceDto;
 import ru.practicum.dto.request.EventRequestStatusUpdateRequest;
 import ru.practicum.dto.request.EventRequestStatusUpdateResult;
 import ru.practicum.dto.request.RequestDto;
@@ -28,7 +28,6 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -36,19 +35,17 @@ import java.util.stream.Collectors;
 public class RequestServiceImpl implements RequestService {
 
     private final RequestRepository requestRepository;
-    private final UserFeignClient userFeignClient;
-    private final EventFeignClient eventFeignClient;
+    private final UserLookupCache userLookupCache;
+    private final EventMetaCache eventMetaCache;
     private final RequestMapper mapper;
     private final EntityValidator entityValidator;
     private final UserActionClient userActionClient;
+    private final ParticipantAdmission admission;
+    private final ConfirmedRequestStats confirmedRequestStats;
 
     @Override
     public List<RequestDto> getUserRequests(Long userId) {
-        try {
-            userFeignClient.getUserById(userId);
-        } catch (FeignException.NotFound e) {
-            throw new NotFoundException("User not found: " + userId);
-        }
+        userLookupCache.ensureExists(userId);
 
         List<Request> requests = requestRepository.findByRequesterId(userId);
         return mapper.toDtoList(requests);
@@ -57,20 +54,11 @@ public class RequestServiceImpl implements RequestService {
     @Override
     @Transactional
     public RequestDto createRequest(Long userId, Long eventId) {
-        try {
-            userFeignClient.getUserById(userId);
-        } catch (FeignException.NotFound e) {
-            throw new NotFoundException("User not found: " + userId);
-        }
+        userLookupCache.ensureExists(userId);
 
-        EventFullDto event;
-        try {
-            event = eventFeignClient.getEventById(eventId);
-        } catch (FeignException.NotFound e) {
-            throw new NotFoundException("Event not found: " + eventId);
-        }
+        EventMetaDto event = eventMetaCache.get(eventId);
 
-        if (Objects.equals(event.getInitiator().getId(), userId)) {
+        if (Objects.equals(event.getInitiatorId(), userId)) {
             throw new ConflictException("Инициатор события не может создать заявку на участие в своём же событии");
         }
 
@@ -82,17 +70,19 @@ public class RequestServiceImpl implements RequestService {
             throw new ConflictException("Заявка от этого пользователя на это событие уже существует");
         }
 
-        long confirmed = requestRepository.countByEventIdAndStatus(eventId, RequestStatus.CONFIRMED);
-        Integer limit = event.getParticipantLimit();
-        if (limit != null && limit > 0 && confirmed >= limit) {
-            throw new ConflictException("Достигнут лимит участников события");
-        }
-
+        int limit = participantLimit(event);
         RequestStatus initialStatus = RequestStatus.PENDING;
-        if (!event.getRequestModeration() || limit == null || limit == 0) {
+        if (!event.getRequestModeration() || limit == 0) {
             initialStatus = RequestStatus.CONFIRMED;
         }
 
+        boolean admitted = initialStatus == RequestStatus.CONFIRMED
+                ? admission.tryAdmit(eventId, limit)
+                : !admission.isFull(eventId, limit);
+        if (!admitted) {
+            throw new ConflictException("Достигнут лимит участников события");
+        }
+
         Request request = Request.builder()
                 .eventId(eventId)
                 .requesterId(userId)
@@ -112,11 +102,7 @@ public class RequestServiceImpl implements RequestService {
     @Override
     @Transactional
     public RequestDto cancelRequest(Long userId, Long requestId) {
-        try {
-            userFeignClient.getUserById(userId);
-        } catch (FeignException.NotFound e) {
-            throw new NotFoundException("User not found: " + userId);
-        }
+        userLookupCache.ensureExists(userId);
 
         Request request = entityValidator.ensureAndGet(requestRepository, requestId, "Заявка");
 
@@ -135,20 +121,11 @@ public class RequestServiceImpl implements RequestService {
 
     @Override
     public List<RequestDto> getEventRequests(Long userId, Long eventId) {
-        try {
-            userFeignClient.getUserById(userId);
-        } catch (FeignException.NotFound e) {
-            throw new NotFoundException("User not found: " + userId);
-        }
+        userLookupCache.ensureExists(userId);
 
-        EventFullDto event;
-        try {
-            event = eventFeignClient.getEventById(eventId);
-        } catch (FeignException.NotFound e) {
-            throw new NotFoundException("Event not found: " + eventId);
-        }
+        EventMetaDto event = eventMetaCache.get(eventId);
 
-        if (!Objects.equals(event.getInitiator().getId(), userId)) {
+        if (!Objects.equals(event.getInitiatorId(), userId)) {
             throw new NotFoundException("Только инициатор может просматривать заявки данного события");
         }
 
@@ -160,20 +137,11 @@ public class RequestServiceImpl implements RequestService {
     @Transactional
     public EventRequestStatusUpdateResult changeRequestStatus(Long userId, Long eventId,
                                                               EventRequestStatusUpdateRequest updateRequest) {
-        try {
-            userFeignClient.getUserById(userId);
-        } catch (FeignException.NotFound e) {
-            throw new NotFoundException("User not found: " + userId);
-        }
+        userLookupCache.ensureExists(userId);
 
-        EventFullDto event;
-        try {
-            event = eventFeignClient.getEventById(eventId);
-        } catch (FeignException.NotFound e) {
-            throw new NotFoundException("Event not found: " + eventId);
-        }
+        EventMetaDto event = eventMetaCache.get(eventId);
 
-        if (!Objects.equals(event.getInitiator().getId(), userId)) {
+        if (!Objects.equals(event.getInitiatorId(), userId)) {
             throw new ConflictException("Только инициатор может менять статусы заявок");
         }
 
@@ -201,58 +169,24 @@ public class RequestServiceImpl implements RequestService {
                     .build();
         }
 
-        List<Request> requests = requestRepository.findByEventIdAndIdIn(eventId, ids);
-
-        for (Request req : requests) {
-            if (req.getStatus() != RequestStatus.PENDING) {
-                throw new ConflictException("Можно обрабатывать только заявки в статусе PENDING");
-            }
+        if (requestRepository.existsByEventIdAndIdInAndStatusNot(eventId, ids, RequestStatus.PENDING)) {
+            throw new ConflictException("Можно обрабатывать только заявки в статусе PENDING");
         }
 
-        long confirmedNow = requestRepository.countByEventIdAndStatus(eventId, RequestStatus.CONFIRMED);
-        Integer limit = event.getParticipantLimit();
+        int limit = participantLimit(event);
 
         List<Request> confirmed = new ArrayList<>();
-        List<Request> rejected = new ArrayList<>();
-
         if (targetStatus == RequestStatus.CONFIRMED) {
-            if (limit != null && limit > 0) {
-                long available = limit - confirmedNow;
-                if (available <= 0) {
-                    throw new ConflictException("Достигнут лимит участников события");
-                }
-                if (available < requests.size()) {
-                    for (int i = 0; i < requests.size(); i++) {
-                        Request req = requests.get(i);
-                        if (i < available) {
-                            req.setStatus(RequestStatus.CONFIRMED);
-                            confirmed.add(req);
-                        } else {
-                            req.setStatus(RequestStatus.REJECTED);
-                            rejected.add(req);
-                        }
-                    }
-                } else {
-                    for (Request req : requests) {
-                        req.setStatus(RequestStatus.CONFIRMED);
-                        confirmed.add(req);
-                    }
-                }
-            } else {
-                for (Request req : requests) {
-                    req.setStatus(RequestStatus.CONFIRMED);
-                    confirmed.add(req);
-                }
-            }
-        } else if (targetStatus == RequestStatus.REJECTED) {
-            for (Request req : requests) {
-                req.setStatus(RequestStatus.REJECTED);
-                rejected.add(req);
+            if (admission.isFull(eventId, limit)) {
+                throw new ConflictException("Достигнут лимит участников события");
             }
+            // самые ранние заявки подтверждаются в пределах мест, остальные отклоняются
+            confirmed = new ArrayList<>(admission.confirmEarliest(eventId, limit, ids));
         }
+        List<Request> rejected = new ArrayList<>(requestRepository.rejectPending(eventId, ids));
 
-        requestRepository.saveAll(confirmed);
-        requestRepository.saveAll(rejected);
+        confirmed.sort(Comparator.comparing(Request::getId));
+        rejected.sort(Comparator.comparing(Request::getId));
 
         return EventRequestStatusUpdateResult.builder()
                 .confirmedRequests(mapper.toDtoList(confirmed))
@@ -268,20 +202,33 @@ public class RequestServiceImpl implements RequestService {
                     .build();
         }
 
-        List<ConfirmedRequestCount> counts = requestRepository
-                .countConfirmedRequestsForEvents(eventIds, RequestStatus.CONFIRMED);
-
-        Map<Long, Integer> statsMap = counts.stream()
-                .collect(Collectors.toMap(
-                        ConfirmedRequestCount::getEventId,
-                        c -> c.getCount().intValue()
-                ));
-
         return RequestStatsDto.builder()
-                .confirmedRequests(statsMap)
+                .confirmedRequests(new HashMap<>(confirmedRequestStats.getConfirmed(eventIds)))
                 .build();
     }
 
+    public EventAttendanceDto getAttendance(List<Long> eventIds) {
+        Map<Long, long[]> attendees = new HashMap<>();
+        if (eventIds == null || eventIds.isEmpty()) {
+            return EventAttendanceDto.builder().attendees(attendees).build();
+        }
+
+        // строки уже отсортированы по (event_id, requester_id) — массивы собираются по порядку
+        Map<Long, List<Long>> grouped = new LinkedHashMap<>();
+        for (EventAttendee attendee : requestRepository.findAttendees(eventIds)) {
+            grouped.computeIfAbsent(attendee.getEventId(), id -> new ArrayList<>()).add(attendee.getRequesterId());
+        }
+        grouped.forEach((eventId, userIds) ->
+                attendees.put(eventId, userIds.stream().mapToLong(Long::longValue).toArray()));
+        eventIds.forEach(eventId -> attendees.putIfAbsent(eventId, new long[0]));
+
+        return EventAttendanceDto.builder().attendees(attendees).build();
+    }
+
+    private int participantLimit(EventMetaDto event) {
+        return event.getParticipantLimit() != null ? event.getParticipantLimit() : 0;
+    }
+
     public boolean hasConfirmedRequest(long userId, long eventId) {
         return requestRepository.existsByEventIdAndRequesterIdAndStatus(
                 eventId, userId, RequestStatus.CONFIRMED);
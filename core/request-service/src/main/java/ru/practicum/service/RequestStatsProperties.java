@@ -0,0 +1,22 @@
+package ru.practicum.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "request-service.stats-cache")
+public class RequestStatsProperties {
+    /**
+     * Сколько число подтверждённых заявок события живёт в памяти; изменения этого сервиса
+     * сбрасывают его сразу после коммита, срок нужен для согласованности между экземплярами.
+     */
+    private Duration ttl = Duration.ofSeconds(2);
+
+    private long maxSize = 50_000;
+}
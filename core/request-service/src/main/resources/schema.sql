@@ -1,3 +1,4 @@
+DROP TABLE IF EXISTS event_participation CASCADE;
 DROP TABLE IF EXISTS requests CASCADE;
 DROP TYPE IF EXISTS request_status CASCADE;
 
@@ -13,3 +14,14 @@ CREATE TABLE IF NOT EXISTS requests (
     status request_status NOT NULL,
     CONSTRAINT uq_request UNIQUE (event_id, requester_id)
 );
+
+-- Списки участников событий для проверки лайков читаются только из индекса
+CREATE INDEX IF NOT EXISTS idx_requests_confirmed_attendees ON requests (event_id, requester_id) WHERE status = 'CONFIRMED';
+
+-- Счётчик подтверждённых заявок события: места занимаются условным UPDATE ... WHERE confirmed < limit
+CREATE TABLE IF NOT EXISTS event_participation (
+    event_id BIGINT PRIMARY KEY,
+    participant_limit INTEGER NOT NULL DEFAULT 0,
+    confirmed INTEGER NOT NULL DEFAULT 0,
+    CONSTRAINT ck_event_participation_limit CHECK (participant_limit = 0 OR confirmed <= participant_limit)
+);
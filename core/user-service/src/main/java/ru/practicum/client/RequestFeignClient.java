@@ -0,0 +1,17 @@
+package ru.practicum.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+
+@FeignClient(
+        name = "request-service",
+        fallback = RequestFeignClientFallback.class
+)
+public interface RequestFeignClient {
+
+    @PostMapping("/requests/cache/users/invalidate")
+    void invalidateUsers(@RequestBody List<Long> userIds);
+}
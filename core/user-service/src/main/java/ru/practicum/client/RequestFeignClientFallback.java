@@ -0,0 +1,16 @@
+package ru.practicum.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Slf4j
+public class RequestFeignClientFallback implements RequestFeignClient {
+
+    @Override
+    public void invalidateUsers(List<Long> userIds) {
+        log.warn("Request Service unavailable, users {} stay cached until TTL", userIds);
+    }
+}
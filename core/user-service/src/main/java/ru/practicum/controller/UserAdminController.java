@@ -3,11 +3,15 @@ package ru.practicum.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.dto.NewUserRequest;
 import ru.practicum.dto.PageParams;
+import ru.practicum.dto.page.CursorPage;
+import ru.practicum.dto.page.Cursors;
 import ru.practicum.dto.user.UserBatchDto;
+import ru.practicum.dto.user.UserChangesDto;
 import ru.practicum.service.UserService;
 import ru.practicum.dto.user.UserDto;
 
@@ -28,13 +32,23 @@ public class UserAdminController {
     }
 
     @GetMapping
-    public List<UserDto> getUsers(
+    public ResponseEntity<List<UserDto>> getUsers(
             @RequestParam(required = false) List<Long> ids,
             @RequestParam(name = "from", required = false, defaultValue = "0") int from,
-            @RequestParam(name = "size", required = false, defaultValue = "10") int size
+            @RequestParam(name = "size", required = false, defaultValue = "10") int size,
+            @RequestParam(name = "cursor", required = false) String cursor
     ) {
-        PageParams pageParams = new PageParams(from, size);
-        return userService.getUsers(ids, pageParams);
+        if (cursor == null) {
+            PageParams pageParams = new PageParams(from, size);
+            return ResponseEntity.ok(userService.getUsers(ids, pageParams));
+        }
+
+        CursorPage<UserDto> page = userService.getUsersPage(ids, cursor, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(Cursors.NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
     }
 
     @GetMapping("/{userId}")
@@ -57,4 +71,12 @@ public class UserAdminController {
     public UserBatchDto getUsersByIds(@RequestBody List<Long> userIds) {
         return userService.getUsersByIds(userIds);
     }
+
+    @GetMapping("/changes")
+    public UserChangesDto getUserChanges(
+            @RequestParam(name = "since", defaultValue = "-1") long since,
+            @RequestParam(name = "limit", defaultValue = "1000") int limit
+    ) {
+        return userService.getUserChanges(since, limit);
+    }
 }
\ No newline at end of file
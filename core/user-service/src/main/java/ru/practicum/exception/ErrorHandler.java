@@ -9,6 +9,7 @@ import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import ru.practicum.dto.page.InvalidCursorException;
 import ru.practicum.exception.dto.ApiError;
 
 import java.time.LocalDateTime;
@@ -89,6 +90,17 @@ public class ErrorHandler {
         );
     }
 
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ApiError handleInvalidCursor(final InvalidCursorException e) {
+        return new ApiError(
+                "Incorrectly made request.",
+                e.getMessage(),
+                "BAD_REQUEST",
+                LocalDateTime.now()
+        );
+    }
+
     @ExceptionHandler
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ApiError handleBadJson(final HttpMessageNotReadableException e) {
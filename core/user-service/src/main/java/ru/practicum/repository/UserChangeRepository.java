@@ -0,0 +1,22 @@
+package ru.practicum.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.model.UserChange;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UserChangeRepository extends JpaRepository<UserChange, Long> {
+
+    List<UserChange> findBySeqGreaterThanOrderBySeqAsc(Long seq, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(c.seq), 0) FROM UserChange c")
+    long findLastSeq();
+
+    @Modifying
+    @Query("DELETE FROM UserChange c WHERE c.changedOn < :before")
+    int deleteOlderThan(LocalDateTime before);
+}
@@ -12,6 +12,10 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
 
     Optional<User> findByEmail(String email);
 
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    List<User> findByIdInAndIdGreaterThanOrderByIdAsc(List<Long> ids, Long id, Pageable pageable);
+
     default List<User> findAllByIdIn(List<Long> ids, Pageable pageable) {
         return findAll(UserSpecs.fetchAll()
                 .and(UserSpecs.byIds(ids)), pageable).getContent();
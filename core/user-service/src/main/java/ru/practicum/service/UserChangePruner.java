@@ -0,0 +1,38 @@
+package ru.practicum.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.repository.UserChangeRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Удаляет старые записи ленты изменений пользователей. Срок хранения должен быть заметно
+ * больше TTL кэшей пользователей в других сервисах: отставший читатель всё равно
+ * перечитает данные по истечении TTL.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserChangePruner {
+
+    private final UserChangeRepository userChangeRepository;
+
+    @Value("${user-service.changes.retention:P1D}")
+    private Duration retention;
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${user-service.changes.prune-interval:PT1H}",
+            initialDelayString = "${user-service.changes.prune-interval:PT1H}")
+    public void prune() {
+        int deleted = userChangeRepository.deleteOlderThan(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Pruned {} user changes older than {}", deleted, retention);
+        }
+    }
+}
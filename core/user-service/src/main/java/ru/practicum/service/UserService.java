@@ -2,7 +2,9 @@ package ru.practicum.service;
 
 import ru.practicum.dto.NewUserRequest;
 import ru.practicum.dto.PageParams;
+import ru.practicum.dto.page.CursorPage;
 import ru.practicum.dto.user.UserBatchDto;
+import ru.practicum.dto.user.UserChangesDto;
 import ru.practicum.dto.user.UserDto;
 
 import java.util.List;
@@ -15,10 +17,14 @@ public interface UserService {
 
     List<UserDto> getUsers(List<Long> ids, PageParams pageParams);
 
+    CursorPage<UserDto> getUsersPage(List<Long> ids, String cursor, int size);
+
     void deleteUser(Long id);
 
     UserDto updateUser(Long id, UserDto userDto);
 
     UserBatchDto getUsersByIds(List<Long> userIds);
 
+    UserChangesDto getUserChanges(long since, int limit);
+
 }
\ No newline at end of file
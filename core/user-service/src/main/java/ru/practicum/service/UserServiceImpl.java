@@ -1,35 +1,48 @@
 package ru.practicum.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.client.RequestFeignClient;
 import ru.practicum.common.EntityValidator;
 import ru.practicum.dto.user.UserBatchDto;
+import ru.practicum.dto.user.UserChangesDto;
 import ru.practicum.dto.user.UserDto;
 import ru.practicum.dto.user.UserShortDto;
 import ru.practicum.exception.InvalidRequestException;
 import ru.practicum.exception.ValidationException;
 import ru.practicum.dto.NewUserRequest;
 import ru.practicum.dto.PageParams;
+import ru.practicum.dto.page.CursorPage;
+import ru.practicum.dto.page.Cursors;
 import ru.practicum.mapper.UserMapper;
 import ru.practicum.model.User;
+import ru.practicum.model.UserChange;
+import ru.practicum.repository.UserChangeRepository;
 import ru.practicum.repository.UserRepository;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final UserChangeRepository userChangeRepository;
     private final EntityValidator entityValidator;
     private final UserMapper userMapper;
+    private final RequestFeignClient requestFeignClient;
 
     @Override
     @Transactional
@@ -63,11 +76,26 @@ public class UserServiceImpl implements UserService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPage<UserDto> getUsersPage(List<Long> ids, String cursor, int size) {
+        Long afterId = Cursors.decode(cursor, 1, keys -> Long.parseLong(keys[0]));
+        long after = afterId != null ? afterId : 0L;
+        PageRequest pageable = PageRequest.of(0, Math.max(1, size) + 1);
+        List<User> users = ids != null && !ids.isEmpty()
+                ? userRepository.findByIdInAndIdGreaterThanOrderByIdAsc(ids, after, pageable)
+                : userRepository.findByIdGreaterThanOrderByIdAsc(after, pageable);
+
+        return CursorPage.of(users, Math.max(1, size), user -> Cursors.encode(user.getId()))
+                .map(page -> page.stream().map(userMapper::toDto).toList());
+    }
+
     @Override
     @Transactional
     public void deleteUser(Long id) {
         entityValidator.ensureExists(userRepository, id, "Пользователь");
         userRepository.deleteById(id);
+        recordChange(id);
+        invalidateRequestServiceAfterCommit(id);
     }
 
     @Override
@@ -82,9 +110,54 @@ public class UserServiceImpl implements UserService {
         userMapper.updateEntityFromDto(userDto, user);
 
         User saved = userRepository.save(user);
+        recordChange(id);
         return userMapper.toDto(saved);
     }
 
+    @Override
+    public UserChangesDto getUserChanges(long since, int limit) {
+        if (since < 0) {
+            return UserChangesDto.builder()
+                    .changes(List.of())
+                    .lastSeq(userChangeRepository.findLastSeq())
+                    .build();
+        }
+
+        List<UserChange> changes = userChangeRepository.findBySeqGreaterThanOrderBySeqAsc(since,
+                PageRequest.of(0, Math.max(1, limit)));
+        long lastSeq = changes.isEmpty()
+                ? userChangeRepository.findLastSeq()
+                : changes.getLast().getSeq();
+
+        return UserChangesDto.builder()
+                .changes(changes.stream()
+                        .map(c -> new UserChangesDto.Change(c.getSeq(), c.getUserId()))
+                        .toList())
+                .lastSeq(lastSeq)
+                .build();
+    }
+
+    // request-service кэширует факт существования пользователя; удалённый не должен создавать заявки
+    private void invalidateRequestServiceAfterCommit(Long userId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    requestFeignClient.invalidateUsers(List.of(userId));
+                } catch (Exception e) {
+                    log.warn("Failed to invalidate user in request-service: {}", e.getMessage());
+                }
+            }
+        });
+    }
+
+    private void recordChange(Long userId) {
+        userChangeRepository.save(UserChange.builder()
+                .userId(userId)
+                .changedOn(LocalDateTime.now())
+                .build());
+    }
+
     private void validateNewUserRequest(NewUserRequest req) {
         if (req == null) {
             throw new InvalidRequestException("Запрос на добавление пользователя не должен быть пустым");
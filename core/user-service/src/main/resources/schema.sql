@@ -8,3 +8,13 @@ CREATE TABLE IF NOT EXISTS users (
     CONSTRAINT uq_email UNIQUE (email)
 );
 
+DROP TABLE IF EXISTS user_changes CASCADE;
+
+-- Лента изменений пользователей для инвалидации кэшей в других сервисах
+CREATE TABLE IF NOT EXISTS user_changes (
+    seq BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    changed_on TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_changes_changed_on ON user_changes (changed_on);
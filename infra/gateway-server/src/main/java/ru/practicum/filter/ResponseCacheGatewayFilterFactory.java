@@ -0,0 +1,336 @@
+package ru.practicum.filter;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Кэширует ответы на анонимные GET-запросы маршрута. Одинаковые запросы, пришедшие,
+ * пока ответ ещё не получен, ждут один вызов сервиса. Срок хранения ограничен {@code ttl}
+ * и {@code max-age}/{@code s-maxage} ответа; ответы с {@code no-cache} отдаются только ожидавшим
+ * их запросам. Ответы с {@code no-store}, {@code private} или {@code Set-Cookie}, а также
+ * сформированные самим шлюзом (например, 429) не передаются другим запросам вовсе.
+ * На {@code If-None-Match} с совпавшим {@code ETag} шлюз сам отвечает 304.
+ */
+@Slf4j
+@Component
+public class ResponseCacheGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    private static final Pattern MAX_AGE = Pattern.compile("(?:^|,)\\s*(s-maxage|max-age)\\s*=\\s*(\\d+)");
+    private static final List<String> UNCACHEABLE = List.of("no-store", "no-cache", "private");
+    private static final List<String> UNSHAREABLE = List.of("no-store", "private");
+
+    /**
+     * Должен обернуть ответ раньше, чем NettyWriteResponseFilter начнёт в него писать.
+     */
+    public static final int ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+
+    // Заголовки, которые относятся к конкретному клиенту и не должны доставаться другим
+    private static final List<String> PER_CLIENT_HEADERS = List.of(HttpHeaders.RETRY_AFTER,
+            "X-RateLimit-Remaining", "X-RateLimit-Replenish-Rate", "X-RateLimit-Burst-Capacity",
+            "X-RateLimit-Requested-Tokens");
+
+    public ResponseCacheGatewayFilterFactory() {
+        super(Config.class);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        AsyncCache<String, CachedResponse> cache = Caffeine.newBuilder()
+                .maximumWeight(config.getMaxBytes().toBytes())
+                .weigher((String key, CachedResponse value) -> value.weight())
+                .expireAfter(new ResponseExpiry())
+                .buildAsync();
+
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            if (!isCacheable(exchange.getRequest(), config)) {
+                return chain.filter(exchange);
+            }
+
+            String key = cacheKey(exchange.getRequest());
+            CompletableFuture<CachedResponse> created = new CompletableFuture<>();
+            CompletableFuture<CachedResponse> shared = cache.asMap().putIfAbsent(key, created);
+            if (shared != null) {
+                return Mono.fromFuture(shared, true)
+                        .flatMap(cached -> write(exchange, cached))
+                        .onErrorResume(e -> {
+                            log.debug("Shared upstream call for {} failed, proxying directly: {}", key, e.getMessage());
+                            return chain.filter(exchange);
+                        });
+            }
+
+            ServerHttpRequest upstreamRequest = exchange.getRequest().mutate()
+                    .headers(headers -> {
+                        headers.remove(HttpHeaders.IF_NONE_MATCH);
+                        headers.remove(HttpHeaders.IF_MODIFIED_SINCE);
+                    })
+                    .build();
+            CapturingResponse capturing = new CapturingResponse(exchange.getResponse(), config);
+            ServerWebExchange upstream = exchange.mutate()
+                    .request(upstreamRequest)
+                    .response(capturing)
+                    .build();
+
+            return chain.filter(upstream)
+                    .then(Mono.defer(() -> {
+                        CachedResponse captured = capturing.captured();
+                        if (captured == null) {
+                            created.completeExceptionally(new IllegalStateException("No response captured for " + key));
+                            return Mono.empty();
+                        }
+                        if (upstream.getAttribute(ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR) == null) {
+                            // ответ сформировал сам шлюз, а не сервис — он только для этого клиента
+                            created.completeExceptionally(new IllegalStateException("Response for " + key + " did not come from upstream"));
+                        } else if (isPrivate(captured.headers())) {
+                            // ответ предназначен только этому клиенту — ожидающие запросы идут в сервис сами
+                            created.completeExceptionally(new IllegalStateException("Response for " + key + " is private"));
+                        } else {
+                            created.complete(captured);
+                        }
+                        return write(exchange, captured);
+                    }))
+                    .doOnError(created::completeExceptionally)
+                    .doFinally(signal -> {
+                        if (!created.isDone()) {
+                            created.completeExceptionally(new CancellationException("Upstream call for " + key + " did not complete"));
+                        }
+                    });
+        }, ORDER);
+    }
+
+    private boolean isCacheable(ServerHttpRequest request, Config config) {
+        if (request.getMethod() != HttpMethod.GET) {
+            return false;
+        }
+        HttpHeaders headers = request.getHeaders();
+        if (config.getBypassHeaders().stream().anyMatch(headers::containsKey)) {
+            return false;
+        }
+        String cacheControl = headers.getCacheControl();
+        return cacheControl == null
+                || !(cacheControl.contains("no-cache") || cacheControl.contains("no-store"));
+    }
+
+    private String cacheKey(ServerHttpRequest request) {
+        String accept = request.getHeaders().getFirst(HttpHeaders.ACCEPT);
+        return request.getURI().getRawPath() + "?" + request.getURI().getRawQuery() + "|" + accept;
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        long age = Duration.ofNanos(System.nanoTime() - cached.storedAtNanos()).toSeconds();
+
+        String etag = cached.headers().getETag();
+        if (etag != null && cached.status().value() == HttpStatus.OK.value()
+                && exchange.getRequest().getHeaders().getIfNoneMatch().contains(etag)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            response.getHeaders().setETag(etag);
+            copyIfPresent(cached.headers(), response.getHeaders(), HttpHeaders.CACHE_CONTROL);
+            response.getHeaders().set(HttpHeaders.AGE, Long.toString(age));
+            return response.setComplete();
+        }
+
+        response.setStatusCode(cached.status());
+        response.getHeaders().putAll(cached.headers());
+        response.getHeaders().set(HttpHeaders.AGE, Long.toString(age));
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(cached.body())));
+    }
+
+    private static void copyIfPresent(HttpHeaders from, HttpHeaders to, String name) {
+        List<String> values = from.get(name);
+        if (values != null) {
+            to.put(name, values);
+        }
+    }
+
+    /**
+     * Ответ нельзя показывать никому, кроме запросившего его клиента.
+     */
+    private static boolean isPrivate(HttpHeaders headers) {
+        if (headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return true;
+        }
+        String cacheControl = headers.getCacheControl();
+        return cacheControl != null && UNSHAREABLE.stream().anyMatch(cacheControl::contains);
+    }
+
+    /**
+     * Сколько можно хранить ответ: 0, если его нельзя отдавать повторно.
+     */
+    private static Duration freshness(HttpStatusCode status, HttpHeaders headers, int bodySize, Config config) {
+        if (status.value() != HttpStatus.OK.value() || isPrivate(headers)
+                || bodySize > config.getMaxEntryBytes().toBytes()) {
+            return Duration.ZERO;
+        }
+        Duration ttl = config.getTtl();
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl == null) {
+            return ttl;
+        }
+        if (UNCACHEABLE.stream().anyMatch(cacheControl::contains)) {
+            return Duration.ZERO;
+        }
+        Duration maxAge = null;
+        Matcher matcher = MAX_AGE.matcher(cacheControl);
+        while (matcher.find()) {
+            Duration value = Duration.ofSeconds(Long.parseLong(matcher.group(2)));
+            if ("s-maxage".equals(matcher.group(1)) || maxAge == null) {
+                maxAge = value;
+            }
+        }
+        return maxAge != null && maxAge.compareTo(ttl) < 0 ? maxAge : ttl;
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        /**
+         * Наибольший срок хранения ответа; {@code max-age} ответа может его только сократить.
+         */
+        private Duration ttl = Duration.ofSeconds(5);
+
+        /**
+         * Общий объём тел ответов в кэше маршрута.
+         */
+        private DataSize maxBytes = DataSize.ofMegabytes(16);
+
+        /**
+         * Ответы больше этого размера отдаются только ожидавшим их запросам и не хранятся.
+         */
+        private DataSize maxEntryBytes = DataSize.ofKilobytes(512);
+
+        /**
+         * Запросы с этими заголовками относятся к конкретному пользователю и идут мимо кэша.
+         */
+        private List<String> bypassHeaders = List.of(HttpHeaders.AUTHORIZATION, "X-EWM-USER-ID");
+    }
+
+    private record CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body,
+                                  Duration ttl, long storedAtNanos) {
+
+        // заголовки оцениваются грубо: они малы по сравнению с телами страниц
+        int weight() {
+            return body.length + 512;
+        }
+    }
+
+    private static class ResponseExpiry implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+            return value.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return value.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * Забирает ответ целиком вместо отправки клиенту; клиенту его пишет {@link #write}.
+     */
+    private static class CapturingResponse extends ServerHttpResponseDecorator {
+        private final Config config;
+        private final HttpHeaders headers = new HttpHeaders();
+        private HttpStatusCode status = HttpStatus.OK;
+        private volatile CachedResponse captured;
+
+        CapturingResponse(ServerHttpResponse delegate, Config config) {
+            super(delegate);
+            this.config = config;
+        }
+
+        CachedResponse captured() {
+            return captured;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public boolean setStatusCode(HttpStatusCode status) {
+            if (status != null) {
+                this.status = status;
+            }
+            return true;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return status;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return DataBufferUtils.join(body)
+                    .map(buffer -> {
+                        byte[] bytes = new byte[buffer.readableByteCount()];
+                        buffer.read(bytes);
+                        DataBufferUtils.release(buffer);
+                        return bytes;
+                    })
+                    .defaultIfEmpty(new byte[0])
+                    .doOnNext(this::complete)
+                    .then();
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWith(Flux.from(body).concatMap(Flux::from));
+        }
+
+        @Override
+        public Mono<Void> setComplete() {
+            return Mono.fromRunnable(() -> complete(new byte[0]));
+        }
+
+        private void complete(byte[] body) {
+            HttpHeaders stored = new HttpHeaders();
+            stored.putAll(headers);
+            stored.remove(HttpHeaders.TRANSFER_ENCODING);
+            PER_CLIENT_HEADERS.forEach(stored::remove);
+            stored.setContentLength(body.length);
+            captured = new CachedResponse(status, HttpHeaders.readOnlyHttpHeaders(stored), body,
+                    freshness(status, stored, body.length, config), System.nanoTime());
+        }
+    }
+}
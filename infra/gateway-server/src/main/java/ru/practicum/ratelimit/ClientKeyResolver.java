@@ -0,0 +1,38 @@
+package ru.practicum.ratelimit;
+
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+/**
+ * Клиент для ограничения частоты запросов — его IP-адрес. Заголовок {@code X-EWM-USER-ID}
+ * шлюз не проверяет, поэтому ключом он быть не может: новое значение в каждом запросе давало бы
+ * новое ведро. За балансировщиком адрес берётся из {@code X-Forwarded-For} с учётом
+ * {@code gateway.rate-limiter.trusted-proxies} доверенных прокси.
+ */
+@Component("clientKeyResolver")
+public class ClientKeyResolver implements KeyResolver {
+
+    private final RemoteAddressResolver addressResolver;
+
+    public ClientKeyResolver(LocalRateLimiterProperties properties) {
+        this.addressResolver = properties.getTrustedProxies() > 0
+                ? XForwardedRemoteAddressResolver.maxTrustedIndex(properties.getTrustedProxies())
+                : new RemoteAddressResolver() {
+                };
+    }
+
+    @Override
+    public Mono<String> resolve(ServerWebExchange exchange) {
+        InetSocketAddress remoteAddress = addressResolver.resolve(exchange);
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return Mono.empty();
+        }
+        return Mono.just("ip:" + remoteAddress.getAddress().getHostAddress());
+    }
+}
@@ -0,0 +1,114 @@
+package ru.practicum.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ограничитель частоты запросов в памяти шлюза для фильтра {@code LocalRequestRateLimiter},
+ * не требующий Redis. Ведро токенов клиента хранится как одно число — момент, к которому
+ * ведро восстановится полностью, — и списывается CAS без блокировок.
+ * Квоты задаются для каждого маршрута аргументами {@code local-rate-limiter.*}.
+ * Каждый экземпляр шлюза считает только свои запросы.
+ */
+@Slf4j
+@Component
+public class LocalRateLimiter extends AbstractRateLimiter<LocalRateLimiter.Config> {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "local-rate-limiter";
+
+    private static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    private static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+    private static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+    private static final String REQUESTED_TOKENS_HEADER = "X-RateLimit-Requested-Tokens";
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    private final Cache<String, AtomicLong> buckets;
+
+    public LocalRateLimiter(ConfigurationService configurationService, LocalRateLimiterProperties properties) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        Config config = getConfig().get(routeId);
+        if (config == null) {
+            throw new IllegalArgumentException("No Configuration found for route " + routeId);
+        }
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.getReplenishRate();
+        long capacityNanos = intervalNanos * config.getBurstCapacity();
+        long costNanos = intervalNanos * config.getRequestedTokens();
+        AtomicLong fullAt = buckets.get(routeId + ":" + id, key -> new AtomicLong(System.nanoTime()));
+
+        // fullAt - now — сколько времени восстанавливать уже списанные токены
+        while (true) {
+            long now = System.nanoTime();
+            long current = fullAt.get();
+            long next = Math.max(current, now) + costNanos;
+            long debt = next - now;
+            if (debt > capacityNanos) {
+                long retryAfterNanos = debt - capacityNanos;
+                long remaining = (capacityNanos - (Math.max(current, now) - now)) / intervalNanos;
+                log.debug("Rate limit exceeded for {} on route {}", id, routeId);
+                return Mono.just(new Response(false, headers(config, remaining, retryAfterNanos)));
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return Mono.just(new Response(true, headers(config, (capacityNanos - debt) / intervalNanos, 0)));
+            }
+        }
+    }
+
+    private Map<String, String> headers(Config config, long remaining, long retryAfterNanos) {
+        if (!config.isIncludeHeaders()) {
+            return Map.of();
+        }
+        Map<String, String> headers = new HashMap<>();
+        headers.put(REMAINING_HEADER, Long.toString(Math.max(remaining, 0)));
+        headers.put(REPLENISH_RATE_HEADER, Integer.toString(config.getReplenishRate()));
+        headers.put(BURST_CAPACITY_HEADER, Integer.toString(config.getBurstCapacity()));
+        headers.put(REQUESTED_TOKENS_HEADER, Integer.toString(config.getRequestedTokens()));
+        if (retryAfterNanos > 0) {
+            long seconds = Duration.ofNanos(retryAfterNanos).toSeconds();
+            headers.put(RETRY_AFTER_HEADER, Long.toString(Math.max(seconds, 1)));
+        }
+        return headers;
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        /**
+         * Сколько токенов в секунду восстанавливается.
+         */
+        private int replenishRate = 10;
+
+        /**
+         * Сколько токенов помещается в ведро, то есть допустимый всплеск запросов.
+         */
+        private int burstCapacity = 20;
+
+        /**
+         * Сколько токенов стоит один запрос.
+         */
+        private int requestedTokens = 1;
+
+        private boolean includeHeaders = true;
+    }
+}
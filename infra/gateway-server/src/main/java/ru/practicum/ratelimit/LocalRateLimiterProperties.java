@@ -0,0 +1,30 @@
+package ru.practicum.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "gateway.rate-limiter")
+public class LocalRateLimiterProperties {
+    /**
+     * Сколько клиентов одновременно отслеживается; самые давние вытесняются.
+     */
+    private long maxBuckets = 100_000;
+
+    /**
+     * Через сколько без запросов счётчик клиента удаляется. Должно быть больше времени
+     * полного восстановления ведра, иначе клиент получит лишние токены.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(5);
+
+    /**
+     * Сколько прокси перед шлюзом добавляют адрес в {@code X-Forwarded-For}; 0 — адрес соединения.
+     */
+    private int trustedProxies = 0;
+}
@@ -0,0 +1,26 @@
+package ru.practicum.ratelimit;
+
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.RequestRateLimiterGatewayFilterFactory;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.stereotype.Component;
+import ru.practicum.filter.ResponseCacheGatewayFilterFactory;
+
+/**
+ * {@code RequestRateLimiter}, который срабатывает раньше {@code ResponseCache}. Обычный фильтр
+ * маршрута выполняется уже внутри кэширующего, и его 429 и счётчики клиента попадали бы
+ * в общий ответ. Аргументы те же: {@code key-resolver} и {@code local-rate-limiter.*}.
+ */
+@Component
+public class LocalRequestRateLimiterGatewayFilterFactory extends RequestRateLimiterGatewayFilterFactory {
+
+    public LocalRequestRateLimiterGatewayFilterFactory(LocalRateLimiter rateLimiter, KeyResolver clientKeyResolver) {
+        super(rateLimiter, clientKeyResolver);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter(super.apply(config), ResponseCacheGatewayFilterFactory.ORDER - 1);
+    }
+}
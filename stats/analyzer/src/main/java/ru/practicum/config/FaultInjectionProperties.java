@@ -0,0 +1,22 @@
+package ru.practicum.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Искусственная задержка ответов gRPC, чтобы локально воспроизвести медленный экземпляр analyzer.
+ */
+@ConfigurationProperties(prefix = "analyzer.fault-injection")
+@Getter
+@Setter
+@ToString
+public class FaultInjectionProperties {
+    private boolean enabled = false;
+    private Duration latency = Duration.ZERO;
+    private Duration jitter = Duration.ZERO;
+    private double probability = 1.0;
+}
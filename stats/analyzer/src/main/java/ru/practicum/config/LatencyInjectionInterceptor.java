@@ -0,0 +1,41 @@
+package ru.practicum.config;
+
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@GrpcGlobalServerInterceptor
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "analyzer.fault-injection", name = "enabled", havingValue = "true")
+public class LatencyInjectionInterceptor implements ServerInterceptor {
+
+    private final FaultInjectionProperties properties;
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers,
+                                                      ServerCallHandler<Q, R> next) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < properties.getProbability()) {
+            long delay = properties.getLatency().toMillis();
+            long jitter = properties.getJitter().toMillis();
+            if (jitter > 0) {
+                delay += random.nextLong(jitter + 1);
+            }
+            log.debug("Injecting {} ms latency into {}", delay, call.getMethodDescriptor().getFullMethodName());
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return next.startCall(call, headers);
+    }
+}
@@ -0,0 +1,104 @@
+package ru.practicum.actions;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import ru.practicum.controller.UserActionClient;
+import ru.practicum.stats.proto.ActionTypeProto;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Неблокирующая отправка действий пользователей в collector: вызывающий поток только кладёт
+ * действие в ограниченную очередь, а фоновый поток пачками отправляет его в collector.
+ * При переполнении очереди действия отбрасываются — это телеметрия, и терять её
+ * лучше, чем задерживать ответ пользователю.
+ */
+@Slf4j
+@Service
+public class UserActionPipeline {
+
+    private final UserActionClient userActionClient;
+    private final UserActionPipelineProperties properties;
+    private final BlockingQueue<UserAction> queue;
+    private final AtomicLong dropped = new AtomicLong();
+    private final ScheduledExecutorService sender = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "user-action-sender");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public UserActionPipeline(UserActionClient userActionClient, UserActionPipelineProperties properties) {
+        this.userActionClient = userActionClient;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    @PostConstruct
+    public void start() {
+        long interval = properties.getFlushInterval().toMillis();
+        sender.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        sender.shutdown();
+        if (sender.awaitTermination(5, TimeUnit.SECONDS)) {
+            flush();
+        }
+    }
+
+    public void record(long userId, long eventId, ActionTypeProto actionType, Instant timestamp) {
+        if (!queue.offer(new UserAction(userId, eventId, actionType, timestamp))) {
+            long total = dropped.incrementAndGet();
+            if (total % 1000 == 1) {
+                log.warn("User action queue is full, {} actions dropped so far", total);
+            }
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Failed to send user actions", e);
+        }
+    }
+
+    private void flush() {
+        List<UserAction> batch = new ArrayList<>(Math.min(queue.size(), properties.getBatchSize()));
+        while (queue.drainTo(batch, properties.getBatchSize()) > 0) {
+            // повторы одного действия пользователя с событием в пачке схлопываются в последнее
+            Map<ActionKey, UserAction> latest = new LinkedHashMap<>();
+            for (UserAction action : batch) {
+                latest.merge(new ActionKey(action.userId(), action.eventId(), action.actionType()), action,
+                        (previous, current) -> current.timestamp().isAfter(previous.timestamp()) ? current : previous);
+            }
+
+            int failed = 0;
+            for (UserAction action : latest.values()) {
+                try {
+                    userActionClient.sendUserAction(action.userId(), action.eventId(), action.actionType(),
+                            action.timestamp(), properties.getSendDeadline());
+                } catch (RuntimeException e) {
+                    failed++;
+                }
+            }
+            if (failed > 0) {
+                log.warn("Failed to send {} of {} user actions", failed, latest.size());
+            }
+            log.debug("Sent {} user actions out of {} queued", latest.size() - failed, batch.size());
+            batch.clear();
+        }
+    }
+
+    private record UserAction(long userId, long eventId, ActionTypeProto actionType, Instant timestamp) {
+    }
+
+    private record ActionKey(long userId, long eventId, ActionTypeProto actionType) {
+    }
+}
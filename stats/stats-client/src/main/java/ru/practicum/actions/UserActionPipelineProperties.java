@@ -0,0 +1,31 @@
+package ru.practicum.actions;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "stats-client.actions")
+public class UserActionPipelineProperties {
+    /**
+     * Сколько действий может ждать отправки; при переполнении новые действия отбрасываются.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Как часто очередь отправляется в collector.
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    private int batchSize = 500;
+
+    /**
+     * Срок одного вызова collector, чтобы зависший сервис не останавливал отправку.
+     */
+    private Duration sendDeadline = Duration.ofMillis(500);
+}
@@ -0,0 +1,127 @@
+package ru.practicum.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import ru.practicum.controller.RecommendationsClient;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Кэш рейтингов мероприятий поверх {@link RecommendationsClient#getInteractionsCount(List)}.
+ * Параллельные запросы с пересекающимися id ждут один и тот же вызов analyzer,
+ * а устаревшие значения обновляются в фоне пачками. Если analyzer недоступен,
+ * отдаются последние известные значения.
+ */
+@Slf4j
+@Service
+public class RatingCache {
+
+    private final RecommendationsClient recommendationsClient;
+    private final RatingCacheProperties properties;
+    private final AsyncLoadingCache<Long, Double> cache;
+    private final Cache<Long, Double> lastKnown;
+
+    private final Map<Long, CompletableFuture<Double>> pendingRefresh = new ConcurrentHashMap<>();
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
+    public RatingCache(RecommendationsClient recommendationsClient, RatingCacheProperties properties) {
+        this.recommendationsClient = recommendationsClient;
+        this.properties = properties;
+        this.lastKnown = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getStaleTtl())
+                .build();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .refreshAfterWrite(properties.getRefreshAfter())
+                .buildAsync(new RatingLoader());
+    }
+
+    public Map<Long, Double> getRatings(Collection<Long> eventIds) {
+        if (eventIds == null || eventIds.isEmpty()) {
+            return Map.of();
+        }
+        return cache.getAll(new HashSet<>(eventIds)).join();
+    }
+
+    private Map<Long, Double> load(Set<? extends Long> eventIds) {
+        Map<Long, Double> ratings = new HashMap<>();
+        try {
+            eventIds.forEach(id -> ratings.put(id, 0.0));
+            recommendationsClient.getInteractionsCount(new ArrayList<>(eventIds))
+                    .forEach(r -> ratings.put(r.getEventId(), r.getScore()));
+        } catch (RuntimeException e) {
+            Map<Long, Double> stale = lastKnown.getAllPresent(eventIds);
+            if (stale.isEmpty()) {
+                throw e;
+            }
+            log.warn("Analyzer unavailable, serving stale ratings for {} of {} events: {}",
+                    stale.size(), eventIds.size(), e.getMessage());
+            return stale;
+        }
+        lastKnown.putAll(ratings);
+        log.debug("Loaded ratings for {} events", ratings.size());
+        return ratings;
+    }
+
+    private void scheduleRefresh(Executor executor) {
+        if (refreshScheduled.compareAndSet(false, true)) {
+            CompletableFuture.delayedExecutor(properties.getRefreshBatchWindow().toMillis(),
+                            TimeUnit.MILLISECONDS, executor)
+                    .execute(this::flushRefresh);
+        }
+    }
+
+    private void flushRefresh() {
+        refreshScheduled.set(false);
+
+        Map<Long, CompletableFuture<Double>> batch = new HashMap<>();
+        for (Long eventId : pendingRefresh.keySet()) {
+            CompletableFuture<Double> future = pendingRefresh.remove(eventId);
+            if (future != null) {
+                batch.put(eventId, future);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<Long, Double> ratings = load(batch.keySet());
+            batch.forEach((eventId, future) -> future.complete(ratings.get(eventId)));
+        } catch (Exception e) {
+            log.warn("Failed to refresh ratings for {} events: {}", batch.size(), e.getMessage());
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private class RatingLoader implements AsyncCacheLoader<Long, Double> {
+
+        @Override
+        public CompletableFuture<Double> asyncLoad(Long eventId, Executor executor) {
+            return asyncLoadAll(Set.of(eventId), executor).thenApply(ratings -> ratings.get(eventId));
+        }
+
+        @Override
+        public CompletableFuture<Map<Long, Double>> asyncLoadAll(Set<? extends Long> eventIds, Executor executor) {
+            return CompletableFuture.supplyAsync(() -> load(eventIds), executor);
+        }
+
+        @Override
+        public CompletableFuture<Double> asyncReload(Long eventId, Double oldValue, Executor executor) {
+            CompletableFuture<Double> future = pendingRefresh.computeIfAbsent(eventId, id -> new CompletableFuture<>());
+            scheduleRefresh(executor);
+            return future;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package ru.practicum.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "stats-client.rating-cache")
+public class RatingCacheProperties {
+    /**
+     * Сколько рейтинг живёт в кэше без обновления.
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+
+    /**
+     * Через сколько после записи рейтинг обновляется в фоне при очередном обращении.
+     */
+    private Duration refreshAfter = Duration.ofSeconds(5);
+
+    /**
+     * Окно, в течение которого фоновые обновления копятся в один запрос к analyzer.
+     */
+    private Duration refreshBatchWindow = Duration.ofMillis(50);
+
+    /**
+     * Сколько хранится последнее известное значение, которое отдаётся, если analyzer недоступен.
+     */
+    private Duration staleTtl = Duration.ofMinutes(10);
+
+    private long maxSize = 10_000;
+}
@@ -0,0 +1,53 @@
+package ru.practicum.controller;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "stats-client.analyzer")
+public class AnalyzerClientProperties {
+    private Deadlines deadlines = new Deadlines();
+    private Hedging hedging = new Hedging();
+    private Circuit circuit = new Circuit();
+
+    @Getter
+    @Setter
+    public static class Deadlines {
+        private Duration recommendations = Duration.ofSeconds(2);
+        private Duration similarEvents = Duration.ofSeconds(2);
+        private Duration interactionsCount = Duration.ofMillis(500);
+    }
+
+    @Getter
+    @Setter
+    public static class Hedging {
+        private boolean enabled = false;
+
+        /**
+         * Перцентиль задержки, после которого уходит повторный запрос к другому экземпляру analyzer.
+         */
+        private double percentile = 0.95;
+
+        /**
+         * Задержка до накопления достаточной статистики.
+         */
+        private Duration initialDelay = Duration.ofMillis(100);
+        private Duration minDelay = Duration.ofMillis(10);
+        private int minSamples = 20;
+    }
+
+    @Getter
+    @Setter
+    public static class Circuit {
+        private float failureRateThreshold = 50;
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private Duration openDuration = Duration.ofSeconds(10);
+    }
+}
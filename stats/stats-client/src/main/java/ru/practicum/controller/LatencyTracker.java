@@ -0,0 +1,40 @@
+package ru.practicum.controller;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Скользящее окно последних задержек вызовов для оценки перцентилей.
+ */
+class LatencyTracker {
+    private final AtomicLongArray samples;
+    private final AtomicLong recorded = new AtomicLong();
+
+    LatencyTracker(int windowSize) {
+        this.samples = new AtomicLongArray(windowSize);
+    }
+
+    void record(long nanos) {
+        long index = recorded.getAndIncrement();
+        samples.set((int) (index % samples.length()), nanos);
+    }
+
+    long count() {
+        return Math.min(recorded.get(), samples.length());
+    }
+
+    long percentileNanos(double percentile) {
+        int size = (int) count();
+        if (size == 0) {
+            return 0;
+        }
+        long[] snapshot = new long[size];
+        for (int i = 0; i < size; i++) {
+            snapshot[i] = samples.get(i);
+        }
+        Arrays.sort(snapshot);
+        int rank = (int) Math.ceil(percentile * size) - 1;
+        return snapshot[Math.max(0, Math.min(rank, size - 1))];
+    }
+}
@@ -1,14 +1,22 @@
 package ru.practicum.controller;
 
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.grpc.Context;
 import io.grpc.StatusRuntimeException;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.client.inject.GrpcClient;
 import org.springframework.stereotype.Service;
 import ru.practicum.stats.proto.*;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 @Slf4j
 @Service
@@ -17,6 +25,28 @@ public class RecommendationsClient {
     @GrpcClient("analyzer")
     private RecommendationsControllerGrpc.RecommendationsControllerBlockingStub client;
 
+    private final AnalyzerClientProperties properties;
+    private final CircuitBreaker circuitBreaker;
+    private final LatencyTracker interactionsLatency = new LatencyTracker(256);
+    private final ExecutorService hedgingExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public RecommendationsClient(AnalyzerClientProperties properties) {
+        this.properties = properties;
+        AnalyzerClientProperties.Circuit circuit = properties.getCircuit();
+        this.circuitBreaker = CircuitBreaker.of("analyzer", CircuitBreakerConfig.custom()
+                .failureRateThreshold(circuit.getFailureRateThreshold())
+                .slidingWindowSize(circuit.getSlidingWindowSize())
+                .minimumNumberOfCalls(circuit.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(circuit.getOpenDuration())
+                .recordExceptions(StatusRuntimeException.class)
+                .build());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hedgingExecutor.shutdownNow();
+    }
+
     public Stream<RecommendedEventProto> getRecommendationsForUser(long userId, long maxResults) {
         log.info("IN getRecommendationsForUser");
         try {
@@ -24,9 +54,10 @@ public class RecommendationsClient {
                     .setUserId(userId)
                     .setMaxResults(maxResults)
                     .build();
-            Iterator<RecommendedEventProto> iterator = client.getRecommendationsForUser(request);
-            return asStream(iterator);
-        } catch (StatusRuntimeException e) {
+            Duration deadline = properties.getDeadlines().getRecommendations();
+            return circuitBreaker.executeSupplier(() ->
+                    drain(withDeadline(deadline).getRecommendationsForUser(request))).stream();
+        } catch (StatusRuntimeException | CallNotPermittedException e) {
             log.error("Failed to get recommendations for user: userId={}", userId, e);
             throw new RuntimeException("gRPC call failed", e);
         }
@@ -40,9 +71,10 @@ public class RecommendationsClient {
                     .setUserId(userId)
                     .setMaxResults(maxResults)
                     .build();
-            Iterator<RecommendedEventProto> iterator = client.getSimilarEvents(request);
-            return asStream(iterator);
-        } catch (StatusRuntimeException e) {
+            Duration deadline = properties.getDeadlines().getSimilarEvents();
+            return circuitBreaker.executeSupplier(() ->
+                    drain(withDeadline(deadline).getSimilarEvents(request))).stream();
+        } catch (StatusRuntimeException | CallNotPermittedException e) {
             log.error("Failed to get similar events: eventId={}, userId={}", eventId, userId, e);
             throw new RuntimeException("gRPC call failed", e);
         }
@@ -54,9 +86,10 @@ public class RecommendationsClient {
             InteractionsCountRequestProto request = InteractionsCountRequestProto.newBuilder()
                     .addAllEventId(eventIds)
                     .build();
-            Iterator<RecommendedEventProto> iterator = client.getInteractionsCount(request);
-            return asStream(iterator);
-        } catch (StatusRuntimeException e) {
+            Duration deadline = properties.getDeadlines().getInteractionsCount();
+            return circuitBreaker.executeSupplier(() ->
+                    hedged(() -> drain(withDeadline(deadline).getInteractionsCount(request)))).stream();
+        } catch (StatusRuntimeException | CallNotPermittedException e) {
             log.error("Failed to get interactions count: eventIds={}", eventIds, e);
             throw new RuntimeException("gRPC call failed", e);
         }
@@ -67,9 +100,91 @@ public class RecommendationsClient {
         return getInteractionsCount(Collections.singletonList(eventId));
     }
 
-    private Stream<RecommendedEventProto> asStream(Iterator<RecommendedEventProto> iterator) {
-        return StreamSupport.stream(
-                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED),
-                false);
+    private RecommendationsControllerGrpc.RecommendationsControllerBlockingStub withDeadline(Duration deadline) {
+        return client.withDeadlineAfter(deadline.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Если ответ не пришёл за перцентиль обычной задержки, отправляет второй такой же запрос
+     * (балансировщик направит его на другой экземпляр analyzer) и берёт первый успешный ответ.
+     */
+    private List<RecommendedEventProto> hedged(Supplier<List<RecommendedEventProto>> call) {
+        if (!properties.getHedging().isEnabled()) {
+            return timed(call);
+        }
+
+        Context.CancellableContext primaryContext = Context.current().withCancellation();
+        Context.CancellableContext hedgeContext = Context.current().withCancellation();
+        try {
+            CompletableFuture<List<RecommendedEventProto>> primary = attempt(primaryContext, call);
+            try {
+                return primary.get(hedgeDelayNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                log.debug("Analyzer is slow, sending hedged request");
+            }
+            CompletableFuture<List<RecommendedEventProto>> hedge = attempt(hedgeContext, call);
+            return firstSuccessful(primary, hedge).join();
+        } catch (ExecutionException | CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for analyzer", e);
+        } finally {
+            primaryContext.cancel(null);
+            hedgeContext.cancel(null);
+        }
+    }
+
+    private CompletableFuture<List<RecommendedEventProto>> attempt(Context.CancellableContext context,
+                                                                   Supplier<List<RecommendedEventProto>> call) {
+        return CompletableFuture.supplyAsync(() -> {
+            Context previous = context.attach();
+            try {
+                return timed(call);
+            } finally {
+                context.detach(previous);
+            }
+        }, hedgingExecutor);
+    }
+
+    private CompletableFuture<List<RecommendedEventProto>> firstSuccessful(
+            CompletableFuture<List<RecommendedEventProto>> first,
+            CompletableFuture<List<RecommendedEventProto>> second) {
+        CompletableFuture<List<RecommendedEventProto>> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (CompletableFuture<List<RecommendedEventProto>> attempt : List.of(first, second)) {
+            attempt.whenComplete((result, error) -> {
+                if (error == null) {
+                    winner.complete(result);
+                } else if (failures.incrementAndGet() == 2) {
+                    winner.completeExceptionally(error);
+                }
+            });
+        }
+        return winner;
+    }
+
+    private long hedgeDelayNanos() {
+        AnalyzerClientProperties.Hedging hedging = properties.getHedging();
+        if (interactionsLatency.count() < hedging.getMinSamples()) {
+            return hedging.getInitialDelay().toNanos();
+        }
+        return Math.max(hedging.getMinDelay().toNanos(), interactionsLatency.percentileNanos(hedging.getPercentile()));
+    }
+
+    private List<RecommendedEventProto> timed(Supplier<List<RecommendedEventProto>> call) {
+        long start = System.nanoTime();
+        List<RecommendedEventProto> result = call.get();
+        interactionsLatency.record(System.nanoTime() - start);
+        return result;
+    }
+
+    private List<RecommendedEventProto> drain(Iterator<RecommendedEventProto> iterator) {
+        List<RecommendedEventProto> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
     }
-}
\ No newline at end of file
+}
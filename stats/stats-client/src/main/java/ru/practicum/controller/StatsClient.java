@@ -1,24 +1,42 @@
 package ru.practicum.controller;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import ru.practicum.dto.EndpointHitDto;
 import ru.practicum.dto.ViewStatsDto;
+import ru.practicum.hits.HitStatsEngine;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
+/**
+ * Статистика хитов. Без {@code stats-client.hits.enabled} хиты не сохраняются, а статистика пуста.
+ */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class StatsClient {
 
+    private final ObjectProvider<HitStatsEngine> hitStatsEngine;
+
     public void saveHit(EndpointHitDto hitDto) {
-        log.debug("StatsClient.saveHit is a no-op in recommendations branch");
+        HitStatsEngine engine = hitStatsEngine.getIfAvailable();
+        if (engine == null) {
+            log.debug("Hit statistics are disabled, dropping hit for {}", hitDto.getUri());
+            return;
+        }
+        engine.record(hitDto);
     }
 
     public List<ViewStatsDto> getStats(LocalDateTime start, LocalDateTime end,
                                        List<String> uris, boolean unique) {
-        return Collections.emptyList();
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("Start must be before end");
+        }
+        HitStatsEngine engine = hitStatsEngine.getIfAvailable();
+        return engine == null ? Collections.emptyList() : engine.query(start, end, uris, unique);
     }
 }
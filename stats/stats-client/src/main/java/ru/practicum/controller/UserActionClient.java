@@ -8,7 +8,9 @@ import ru.practicum.stats.proto.ActionTypeProto;
 import ru.practicum.stats.proto.UserActionControllerGrpc;
 import ru.practicum.stats.proto.UserActionProto;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
@@ -18,6 +20,11 @@ public class UserActionClient {
     private UserActionControllerGrpc.UserActionControllerBlockingStub client;
 
     public void sendUserAction(long userId, long eventId, ActionTypeProto actionType, Instant timestamp) {
+        sendUserAction(userId, eventId, actionType, timestamp, null);
+    }
+
+    public void sendUserAction(long userId, long eventId, ActionTypeProto actionType, Instant timestamp,
+                               Duration deadline) {
         log.info("IN HERE");
         try {
             UserActionProto request = UserActionProto.newBuilder()
@@ -30,7 +37,10 @@ public class UserActionClient {
                             .build())
                     .build();
 
-            client.collectUserAction(request);
+            UserActionControllerGrpc.UserActionControllerBlockingStub stub = deadline != null
+                    ? client.withDeadlineAfter(deadline.toMillis(), TimeUnit.MILLISECONDS)
+                    : client;
+            stub.collectUserAction(request);
             log.debug("Sent user action: userId={}, eventId={}, actionType={}", userId, eventId, actionType);
         } catch (StatusRuntimeException e) {
             log.error("Failed to send user action: userId={}, eventId={}, actionType={}", userId, eventId, actionType, e);
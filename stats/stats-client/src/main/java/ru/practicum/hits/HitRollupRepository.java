@@ -0,0 +1,105 @@
+package ru.practicum.hits;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import ru.practicum.dto.ViewStatsDto;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Почасовые агрегаты хитов в таблице hit_rollups базы сервиса. Все экземпляры сервиса пишут
+ * в одни строки: счётчик складывается, а регистры HyperLogLog объединяются побайтовым максимумом
+ * прямо в upsert, так что параллельные сбросы не теряют данных друг друга.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "stats-client.hits", name = "enabled", havingValue = "true")
+public class HitRollupRepository {
+
+    private static final String UPSERT = """
+            INSERT INTO hit_rollups (app, uri, hour, hits, ips)
+            VALUES (:app, :uri, :hour, :hits, :ips)
+            ON CONFLICT (app, uri, hour) DO UPDATE SET
+                hits = hit_rollups.hits + EXCLUDED.hits,
+                ips = (SELECT decode(string_agg(lpad(to_hex(greatest(get_byte(hit_rollups.ips, i),
+                                                                      get_byte(EXCLUDED.ips, i))), 2, '0'), '' ORDER BY i), 'hex')
+                       FROM generate_series(0, length(EXCLUDED.ips) - 1) AS i)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Добавляет приращения к агрегатам. Строки обновляются в порядке ключа, чтобы сбросы
+     * разных экземпляров не взаимоблокировались.
+     */
+    public void upsert(List<HitRollup> rollups) {
+        SqlParameterSource[] batch = rollups.stream()
+                .sorted(Comparator.comparing(HitRollup::app).thenComparing(HitRollup::uri).thenComparing(HitRollup::hour))
+                .map(rollup -> new MapSqlParameterSource()
+                        .addValue("app", rollup.app())
+                        .addValue("uri", rollup.uri())
+                        .addValue("hour", Timestamp.valueOf(rollup.hour()))
+                        .addValue("hits", rollup.hits())
+                        .addValue("ips", rollup.ips().toBytes()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPSERT, batch);
+    }
+
+    public List<ViewStatsDto> sumHits(LocalDateTime fromHour, LocalDateTime end, List<String> uris) {
+        MapSqlParameterSource params = rangeParams(fromHour, end, uris);
+        return jdbcTemplate.query("SELECT app, uri, sum(hits) AS hits FROM hit_rollups WHERE " + rangeFilter(uris)
+                        + " GROUP BY app, uri ORDER BY hits DESC", params,
+                (rs, rowNum) -> new ViewStatsDto(rs.getString("app"), rs.getString("uri"), rs.getLong("hits")));
+    }
+
+    /**
+     * Уникальные ip по объединённым скетчам всех часов диапазона.
+     */
+    public List<ViewStatsDto> countUniqueIps(LocalDateTime fromHour, LocalDateTime end, List<String> uris) {
+        MapSqlParameterSource params = rangeParams(fromHour, end, uris);
+        Map<AppUri, HyperLogLog> sketches = new HashMap<>();
+        jdbcTemplate.query("SELECT app, uri, ips FROM hit_rollups WHERE " + rangeFilter(uris), params, rs -> {
+            sketches.computeIfAbsent(new AppUri(rs.getString("app"), rs.getString("uri")), k -> new HyperLogLog())
+                    .merge(HyperLogLog.fromBytes(rs.getBytes("ips")));
+        });
+        return sketches.entrySet().stream()
+                .map(e -> new ViewStatsDto(e.getKey().app(), e.getKey().uri(), e.getValue().estimate()))
+                .sorted(Comparator.comparing(ViewStatsDto::getHits).reversed())
+                .toList();
+    }
+
+    public int deleteOlderThan(LocalDateTime threshold) {
+        return jdbcTemplate.update("DELETE FROM hit_rollups WHERE hour < :threshold",
+                new MapSqlParameterSource("threshold", Timestamp.valueOf(threshold)));
+    }
+
+    private static MapSqlParameterSource rangeParams(LocalDateTime fromHour, LocalDateTime end, List<String> uris) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fromHour", Timestamp.valueOf(fromHour))
+                .addValue("end", Timestamp.valueOf(end));
+        if (uris != null && !uris.isEmpty()) {
+            params.addValue("uris", uris);
+        }
+        return params;
+    }
+
+    private static String rangeFilter(List<String> uris) {
+        String range = "hour >= :fromHour AND hour <= :end";
+        return uris == null || uris.isEmpty() ? range : range + " AND uri IN (:uris)";
+    }
+
+    /**
+     * Приращение агрегата за час.
+     */
+    public record HitRollup(String app, String uri, LocalDateTime hour, long hits, HyperLogLog ips) {
+    }
+
+    private record AppUri(String app, String uri) {
+    }
+}
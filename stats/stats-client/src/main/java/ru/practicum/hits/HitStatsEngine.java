@@ -0,0 +1,126 @@
+package ru.practicum.hits;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import ru.practicum.dto.EndpointHitDto;
+import ru.practicum.dto.ViewStatsDto;
+import ru.practicum.hits.HitRollupRepository.HitRollup;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Хиты принимаются в ограниченную очередь и фоновым потоком пачками сворачиваются
+ * в почасовые приращения по (app, uri): счётчик хитов и HyperLogLog уникальных ip.
+ * Приращения добавляются в общую таблицу hit_rollups, статистика считается только по ней,
+ * сырые хиты не хранятся. Поэтому все экземпляры сервиса видят одни данные и не теряют их при рестарте.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "stats-client.hits", name = "enabled", havingValue = "true")
+public class HitStatsEngine {
+
+    private final HitRollupRepository rollupRepository;
+    private final HitStatsProperties properties;
+    private final BlockingQueue<EndpointHitDto> queue;
+    private final AtomicLong dropped = new AtomicLong();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "hit-stats-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public HitStatsEngine(HitRollupRepository rollupRepository, HitStatsProperties properties) {
+        this.rollupRepository = rollupRepository;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    @PostConstruct
+    public void start() {
+        long interval = properties.getFlushInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+        long cleanup = properties.getCleanupInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::evictExpiredSafely, cleanup, cleanup, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        flusher.shutdown();
+        if (flusher.awaitTermination(5, TimeUnit.SECONDS)) {
+            flush();
+        }
+    }
+
+    public void record(EndpointHitDto hit) {
+        if (!queue.offer(hit)) {
+            long total = dropped.incrementAndGet();
+            if (total % 1000 == 1) {
+                log.warn("Hit queue is full, {} hits dropped so far", total);
+            }
+        }
+    }
+
+    /**
+     * Хиты, ещё не сброшенные из очереди, в ответ не попадают; задержка не больше {@code flush-interval}.
+     */
+    public List<ViewStatsDto> query(LocalDateTime start, LocalDateTime end, List<String> uris, boolean unique) {
+        LocalDateTime fromHour = start.truncatedTo(ChronoUnit.HOURS);
+        return unique
+                ? rollupRepository.countUniqueIps(fromHour, end, uris)
+                : rollupRepository.sumHits(fromHour, end, uris);
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Failed to flush hit statistics", e);
+        }
+    }
+
+    private void flush() {
+        List<EndpointHitDto> batch = new ArrayList<>(Math.min(queue.size(), properties.getBatchSize()));
+        while (queue.drainTo(batch, properties.getBatchSize()) > 0) {
+            Map<RollupKey, Delta> partial = new HashMap<>();
+            for (EndpointHitDto hit : batch) {
+                LocalDateTime timestamp = hit.getTimestamp() != null ? hit.getTimestamp() : LocalDateTime.now();
+                RollupKey key = new RollupKey(hit.getApp(), hit.getUri(), timestamp.truncatedTo(ChronoUnit.HOURS));
+                Delta delta = partial.computeIfAbsent(key, k -> new Delta());
+                delta.hits++;
+                if (hit.getIp() != null) {
+                    delta.ips.add(hit.getIp());
+                }
+            }
+            rollupRepository.upsert(partial.entrySet().stream()
+                    .map(e -> new HitRollup(e.getKey().app(), e.getKey().uri(), e.getKey().hour(),
+                            e.getValue().hits, e.getValue().ips))
+                    .toList());
+            log.debug("Flushed {} hits into {} rollups", batch.size(), partial.size());
+            batch.clear();
+        }
+    }
+
+    private void evictExpiredSafely() {
+        try {
+            int deleted = rollupRepository.deleteOlderThan(LocalDateTime.now().minus(properties.getRetention()));
+            log.debug("Deleted {} expired hit rollups", deleted);
+        } catch (Exception e) {
+            log.error("Failed to delete expired hit rollups", e);
+        }
+    }
+
+    private record RollupKey(String app, String uri, LocalDateTime hour) {
+    }
+
+    private static class Delta {
+        private long hits;
+        private final HyperLogLog ips = new HyperLogLog();
+    }
+}
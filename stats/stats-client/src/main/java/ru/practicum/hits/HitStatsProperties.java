@@ -0,0 +1,41 @@
+package ru.practicum.hits;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "stats-client.hits")
+public class HitStatsProperties {
+    /**
+     * Включает сбор хитов; нужна таблица hit_rollups в базе сервиса. Без неё StatsClient ничего не делает.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Сколько необработанных хитов может ждать в очереди; при переполнении новые хиты отбрасываются.
+     */
+    private int queueCapacity = 100_000;
+
+    /**
+     * Как часто очередь сбрасывается в почасовые агрегаты.
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    private int batchSize = 10_000;
+
+    /**
+     * Сколько хранятся почасовые агрегаты.
+     */
+    private Duration retention = Duration.ofDays(31);
+
+    /**
+     * Как часто удаляются агрегаты старше {@code retention}.
+     */
+    private Duration cleanupInterval = Duration.ofHours(1);
+}